@@ -18,9 +18,9 @@ package scrapi.alg;
 import scrapi.key.RsaPrivateKey;
 import scrapi.key.RsaPublicKey;
 import scrapi.lang.Registry;
+import scrapi.msg.RsaSignatureAlgorithm;
 import scrapi.msg.SignatureAlgorithm;
 import scrapi.msg.UnarySignatureAlgorithm;
-import scrapi.util.Classes;
 
 public final class Algs {
 
@@ -42,8 +42,8 @@ public final class Algs {
         private Sig() {
         }
 
-        private static final String IMPL_CLASSNAME = "scrapi.impl.msg.StandardSignatureAlgorithms";
-        private static final Registry<String, ? extends SignatureAlgorithm<?, ?, ?, ?, ?, ?>> REGISTRY = Classes.newInstance(IMPL_CLASSNAME);
+        // RSA is currently the only signature algorithm family:
+        private static final Registry<String, ? extends SignatureAlgorithm<?, ?, ?, ?, ?, ?>> REGISTRY = RsaSignatureAlgorithm.registry();
 
         /**
          * Returns a registry of all
@@ -15,14 +15,13 @@
  */
 package scrapi.key;
 
-import scrapi.util.Classes;
+import scrapi.spi.Implementation;
 
 public interface Password extends SymmetricKey {
 
     char[] chars();
 
     static Password of(char[] chars) {
-        Object[] args = new Object[]{chars};
-        return Classes.newInstance("scrapi.impl.key.DefaultPassword", args);
+        return Implementation.instance().password(chars);
     }
 }
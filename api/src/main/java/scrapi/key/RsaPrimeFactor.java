@@ -15,7 +15,7 @@
  */
 package scrapi.key;
 
-import scrapi.util.Classes;
+import scrapi.spi.Implementation;
 
 import java.math.BigInteger;
 import java.util.function.Supplier;
@@ -59,6 +59,6 @@ public interface RsaPrimeFactor {
     }
 
     static Builder builder() {
-        return Classes.newInstance("scrapi.impl.key.DefaultRsaPrimeFactorBuilder");
+        return Implementation.instance().rsaPrimeFactorBuilder();
     }
 }
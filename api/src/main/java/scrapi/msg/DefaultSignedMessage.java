@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.msg;
+
+import scrapi.key.PublicKey;
+import scrapi.util.Assert;
+
+@SuppressWarnings("ClassCanBeRecord") // https://github.com/openclover/clover/issues/270
+final class DefaultSignedMessage<P extends PublicKey<?>> implements SignatureAlgorithm.SignedMessage<P> {
+
+    private final P key;
+    private final byte[] message;
+    private final byte[] signature;
+
+    DefaultSignedMessage(P key, byte[] message, byte[] signature) {
+        this.key = Assert.notNull(key, "PublicKey cannot be null.");
+        this.message = Assert.notNull(message, "message cannot be null.");
+        this.signature = Assert.notNull(signature, "signature cannot be null.");
+    }
+
+    @Override
+    public P key() {
+        return this.key;
+    }
+
+    @Override
+    public byte[] message() {
+        return this.message;
+    }
+
+    @Override
+    public byte[] signature() {
+        return this.signature;
+    }
+}
@@ -15,9 +15,13 @@
  */
 package scrapi.msg;
 
+import scrapi.alg.Size;
 import scrapi.alg.Sized;
 import scrapi.lang.Registry;
+import scrapi.util.Assert;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.function.Supplier;
 
 public interface HashAlgorithm extends IntegrityAlgorithm, Sized, Supplier<Hasher<Digest<HashAlgorithm>>> {
@@ -35,6 +39,65 @@ public interface HashAlgorithm extends IntegrityAlgorithm, Sized, Supplier<Hashe
         return HashAlgs.REGISTRY;
     }
 
+    /**
+     * Returns a tree hash variant of this algorithm that can use all available processors to hash a single large
+     * message.  The message is split into {@code leafSize} leaves (the last leaf may be shorter), the leaves are
+     * hashed in parallel on the {@link java.util.concurrent.ForkJoinPool#commonPool() common ForkJoinPool}, and the
+     * leaf digests are combined into a Merkle tree.  With {@code H} being this algorithm:
+     * <ul>
+     *     <li>each leaf digest is {@code H(0x00 || leaf)}, and an empty message is a single empty leaf;</li>
+     *     <li>each interior node digest is {@code H(0x01 || left || right)} of two adjacent nodes, left to right,
+     *     with an unpaired last node promoted unchanged to the next level;</li>
+     *     <li>the digest is the single remaining root node.</li>
+     * </ul>
+     * <p>The distinct leaf and interior node prefixes provide domain separation, so a leaf can never be confused
+     * with an interior node.  Tree digests are deterministic for a given algorithm and leaf size, but are
+     * <em>not</em> equal to this algorithm's digest of the same message, and change if the leaf size changes.</p>
+     *
+     * @param leafSize the size of each leaf, must be at least 1024 bytes.
+     * @return a tree hash variant of this algorithm.
+     */
+    HashAlgorithm tree(Size leafSize);
+
+    /**
+     * Computes the digest of each of the specified messages, returning all digests packed into a single array.  The
+     * digest of {@code messages.get(i)} is located at index {@code i * size().bytes()} in the returned array.  This
+     * is equivalent to, but more efficient than, calling {@code get().apply(message).get()} for each message.
+     *
+     * @param messages the messages to digest
+     * @return an array of length {@code messages.size() * size().bytes()} containing all digests in message order.
+     */
+    default byte[] digestAll(List<byte[]> messages) {
+        Assert.notNull(messages, "messages cannot be null.");
+        byte[] out = new byte[Math.multiplyExact(messages.size(), size().bytes())];
+        digestAll(messages, out, 0);
+        return out;
+    }
+
+    /**
+     * Computes the digest of each of the specified messages, writing all digests to {@code out} starting at
+     * {@code offset}.  The digest of {@code messages.get(i)} is written at index {@code offset + i * size().bytes()}.
+     * Implementations may digest large batches in parallel.
+     *
+     * @param messages the messages to digest
+     * @param out      the array to receive the digests
+     * @param offset   the index in {@code out} where the first digest will be written
+     * @return the number of bytes written, i.e. {@code messages.size() * size().bytes()}.
+     * @throws IndexOutOfBoundsException if {@code out} does not have enough room at {@code offset} for all digests.
+     */
+    default int digestAll(List<byte[]> messages, byte[] out, int offset) {
+        Assert.notNull(messages, "messages cannot be null.");
+        Assert.notNull(out, "output byte array cannot be null.");
+        int total = Math.multiplyExact(messages.size(), size().bytes());
+        Objects.checkFromIndexSize(offset, total, out.length);
+        Hasher<Digest<HashAlgorithm>> hasher = get();
+        for (byte[] message : messages) {
+            Assert.notNull(message, "messages cannot contain null elements.");
+            offset += hasher.apply(message).digestInto(out, offset);
+        }
+        return total;
+    }
+
     HashAlgorithm MD2 = registry().forKey("MD2");
     HashAlgorithm MD5 = registry().forKey("MD5");
     HashAlgorithm SHA_1 = registry().forKey("SHA-1");
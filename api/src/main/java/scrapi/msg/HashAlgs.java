@@ -16,7 +16,7 @@
 package scrapi.msg;
 
 import scrapi.lang.Registry;
-import scrapi.util.Classes;
+import scrapi.spi.Implementation;
 
 final class HashAlgs {
 
@@ -24,6 +24,5 @@ final class HashAlgs {
     private HashAlgs() {
     }
 
-    private static final String IMPL_CLASSNAME = "scrapi.impl.msg.DefaultHashAlgorithmRegistry";
-    static final Registry<String, HashAlgorithm> REGISTRY = Classes.newInstance(IMPL_CLASSNAME);
+    static final Registry<String, HashAlgorithm> REGISTRY = Implementation.instance().hashAlgorithms();
 }
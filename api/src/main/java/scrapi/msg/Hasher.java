@@ -15,9 +15,87 @@
  */
 package scrapi.msg;
 
+import java.nio.ByteBuffer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+/**
+ * A {@link MessageConsumer} that computes a digest of all applied message data.
+ *
+ * <p>A {@code Hasher} is reusable: calling {@link #get()} or {@link #test(Object) test(digest)} completes the
+ * digest computation and resets the hasher, so a long-lived hasher can process message after message without
+ * allocating a new hasher (or its underlying JCA engine) for each:</p>
+ * <blockquote><pre>
+ * Hasher&lt;Digest&lt;HashAlgorithm&gt;&gt; hasher = HashAlgorithm.SHA_256.get();
+ * for (byte[] record : records) {
+ *     byte[] digest = hasher.apply(record).get().octets(); // hasher is reset after get()
+ *     // ...
+ * }</pre></blockquote>
+ *
+ * <p>Data applied but not yet digested can be discarded with {@link #reset()}.  To avoid allocating a new
+ * {@link Digest} for every message, the result may instead be written to a caller-owned buffer with
+ * {@link #digestInto(byte[], int)} or {@link #digestInto(ByteBuffer)}.  Similarly, the {@code test} methods
+ * compare the computed digest to an expected value without allocating.</p>
+ *
+ * @param <D> the type of digest produced
+ */
 public interface Hasher<D extends Digest<?>>
         extends MessageConsumer<Hasher<D>>, Supplier<D>, Predicate<byte[]> {
+
+    /**
+     * Completes the digest computation like {@link #get()}, but writes the digest bytes to the specified array
+     * instead of allocating a new {@link Digest}.  This hasher is reset afterwards.
+     *
+     * @param out    the array to receive the digest bytes
+     * @param offset the index in {@code out} where the digest bytes will be written
+     * @return the number of bytes written, always equal to the algorithm's digest length.
+     * @throws IndexOutOfBoundsException if {@code out} does not have enough room at {@code offset} for the digest.
+     */
+    int digestInto(byte[] out, int offset);
+
+    /**
+     * Completes the digest computation like {@link #get()}, but writes the digest bytes to the specified buffer,
+     * starting at its current position, instead of allocating a new {@link Digest}.  Upon return, the buffer's
+     * position will have been advanced by the number of bytes written.  This hasher is reset afterwards.
+     *
+     * @param out the buffer to receive the digest bytes
+     * @return the number of bytes written, always equal to the algorithm's digest length.
+     * @throws IllegalArgumentException if {@code out} does not have enough bytes remaining for the digest.
+     * @throws java.nio.ReadOnlyBufferException if {@code out} is read-only.
+     */
+    int digestInto(ByteBuffer out);
+
+    /**
+     * Completes the digest computation and returns {@code true} if the digest is equal to {@code expected},
+     * {@code false} otherwise.  The comparison is performed in constant time.  This hasher is reset afterwards.
+     *
+     * @param expected the expected digest bytes
+     * @return {@code true} if the computed digest is equal to {@code expected}, {@code false} otherwise.
+     */
+    @Override
+    boolean test(byte[] expected);
+
+    /**
+     * Completes the digest computation and returns {@code true} if the digest is equal to the {@code len} bytes
+     * in {@code expected} starting at {@code offset}, {@code false} otherwise.  The comparison is performed in
+     * constant time.  This hasher is reset afterwards.
+     *
+     * @param expected the array containing the expected digest bytes
+     * @param offset   the index in {@code expected} of the first digest byte
+     * @param len      the number of expected digest bytes
+     * @return {@code true} if the computed digest is equal to the specified range, {@code false} otherwise.
+     * @throws IndexOutOfBoundsException if {@code expected} does not contain the specified range.
+     */
+    boolean test(byte[] expected, int offset, int len);
+
+    /**
+     * Completes the digest computation and returns {@code true} if the digest is equal to the
+     * {@code expected.remaining()} bytes starting at {@code expected.position()}, {@code false} otherwise.  The
+     * comparison is performed in constant time.  Upon return, the buffer's position will be equal to its limit;
+     * its limit will not have changed.  This hasher is reset afterwards.
+     *
+     * @param expected the buffer containing the expected digest bytes
+     * @return {@code true} if the computed digest is equal to the buffer's remaining bytes, {@code false} otherwise.
+     */
+    boolean test(ByteBuffer expected);
 }
@@ -20,6 +20,8 @@ import scrapi.key.Keyable;
 import scrapi.key.OctetSecretKey;
 import scrapi.lang.Registry;
 
+import java.util.function.Supplier;
+
 public interface HmacAlgorithm extends UnaryMacAlgorithm<
         OctetSecretKey,
         Keyable.Param<OctetSecretKey>,
@@ -40,6 +42,17 @@ public interface HmacAlgorithm extends UnaryMacAlgorithm<
         return HmacAlgs.REGISTRY;
     }
 
+    /**
+     * Returns a thread-safe supplier of hashers for the specified key, intended for keys that will be used to
+     * compute many MACs.  Unlike {@link #with(OctetSecretKey) with(key)}, which initializes a new JCA {@code Mac}
+     * with the key every time, the returned supplier initializes the key only once, and its hashers reuse
+     * per-thread copies of that initialized state.
+     *
+     * @param key the key to use for all hashers produced by the returned supplier
+     * @return a thread-safe supplier of hashers for the specified key.
+     */
+    Supplier<Hasher<Digest<HmacAlgorithm>>> prepare(OctetSecretKey key);
+
     HmacAlgorithm HMD5 = registry().forKey("HmacMD5");
     HmacAlgorithm HS1 = registry().forKey("HmacSHA1");
     HmacAlgorithm HS224 = registry().forKey("HmacSHA224");
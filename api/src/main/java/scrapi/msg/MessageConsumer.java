@@ -15,9 +15,22 @@
  */
 package scrapi.msg;
 
+import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
 import java.util.function.Function;
 
+/**
+ * Incrementally consumes message data, usually to produce some result (such as a digest or signature) once all
+ * data has been applied.
+ *
+ * <p>Consumers are stateful and not thread-safe.  However, they are reusable: once a consumer has produced its
+ * result, it is automatically reset and may immediately be used to process a new message.  An in-progress
+ * message may also be discarded at any time via {@link #reset()}.</p>
+ *
+ * @param <T> the type of consumer, for method chaining
+ */
 public interface MessageConsumer<T extends MessageConsumer<T>> extends Function<byte[], T> {
 
     /**
@@ -51,4 +64,47 @@ public interface MessageConsumer<T extends MessageConsumer<T>> extends Function<
      * @param input the ByteBuffer to process.
      */
     T apply(ByteBuffer input);
+
+    /**
+     * Processes the entire contents of the file at the specified path.  Regular files are memory-mapped and
+     * processed in windows so that file data is not copied through intermediate heap buffers; other files
+     * (e.g. named pipes) are read as a stream as if by {@link #apply(InputStream)}.
+     *
+     * @param file the file to process.
+     * @throws MessageException if the file cannot be read.
+     */
+    T apply(Path file);
+
+    /**
+     * Processes {@code len} bytes of the specified channel's file, starting at file position {@code position}.
+     * The region is memory-mapped and processed in windows so that file data is not copied through intermediate
+     * heap buffers.  The channel's own position is not modified, and the channel is not closed.
+     *
+     * @param channel  the channel to read.
+     * @param position the file position of the first byte to process.
+     * @param len      the number of bytes to process.
+     * @throws IllegalArgumentException if {@code position} or {@code len} is negative, or the region extends
+     *                                  beyond the end of the file.
+     * @throws MessageException         if the channel cannot be read.
+     */
+    T apply(FileChannel channel, long position, long len);
+
+    /**
+     * Processes all remaining bytes of the specified stream until end of stream is reached.  Data is read via a
+     * buffer that is reused across calls, or via memory-mapping if the stream is a {@link java.io.FileInputStream}
+     * of a regular file.  The stream is not closed.
+     *
+     * @param input the stream to process.
+     * @throws MessageException if the stream cannot be read.
+     */
+    T apply(InputStream input);
+
+    /**
+     * Discards all data applied since this consumer was created or last produced a result, returning it to its
+     * initial state so it may be used to process a new message.  This is never necessary after a result is
+     * produced, as the consumer is automatically reset at that point.
+     *
+     * @return this consumer for method chaining.
+     */
+    T reset();
 }
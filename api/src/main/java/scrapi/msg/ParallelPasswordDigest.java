@@ -0,0 +1,30 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.msg;
+
+/**
+ * A {@link PasswordDigest} produced by a {@link ParallelPbeMacAlgorithm}, which additionally retains the number of
+ * lanes needed to reproduce it.
+ */
+public interface ParallelPasswordDigest extends PasswordDigest<ParallelPbeMacAlgorithm> {
+
+    /**
+     * Returns the number of lanes used to compute the digest.
+     *
+     * @return the number of lanes used to compute the digest.
+     */
+    int lanes();
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.msg;
+
+import scrapi.key.Password;
+import scrapi.key.PasswordStretcher;
+import scrapi.util.Assert;
+
+import java.util.concurrent.Executor;
+
+/**
+ * A password-based MAC algorithm that divides the cost (iteration count) of a {@link PbeMacAlgorithm} across a
+ * number of independent <em>lanes</em> which are computed concurrently, reducing the wall-clock time of a single
+ * password hash or verification without reducing the total work required of an attacker.
+ *
+ * <p>Each lane {@code i} (starting at zero) derives a key using the underlying {@link PbeMacAlgorithm} with
+ * {@code ceil(cost / lanes)} iterations and the salt {@code salt || INT(i)} (the lane index as a 4-byte big-endian
+ * integer), and produces the output of that key's MAC over an empty message.  The lane outputs are XOR'd to form
+ * the key of an HMAC over the actual message.  Because the result depends on the lane count, it is retained,
+ * along with the salt and cost, by the resulting {@link ParallelPasswordDigest}, and the same lane count must be
+ * specified when verifying.</p>
+ *
+ * <p>The result is not compatible with the underlying {@link PbeMacAlgorithm}, even for a single lane.</p>
+ *
+ * @see PbeMacAlgorithm#parallel()
+ */
+public interface ParallelPbeMacAlgorithm extends PasswordMacAlgorithm<ParallelPbeMacAlgorithm.Params,
+        ParallelPasswordDigest, ParallelPbeMacAlgorithm> {
+
+    /**
+     * The default number of lanes, {@code 4}.  This does not depend on the number of available processors, so
+     * that results are reproducible on any machine.
+     */
+    int DEFAULT_LANES = 4;
+
+    /**
+     * The maximum number of lanes, {@code 64}.
+     */
+    int MAX_LANES = 64;
+
+    interface Params extends PasswordStretcher<Params> {
+
+        /**
+         * Sets the number of lanes, from {@code 1} to {@link #MAX_LANES} inclusive, default
+         * {@link #DEFAULT_LANES}.  The {@link PasswordStretcher#cost(int) cost} is divided among the lanes, so
+         * {@code ceil(cost / lanes)} must not be less than the algorithm's minimum iteration count.
+         *
+         * @param lanes the number of lanes
+         * @return the params for method chaining.
+         */
+        Params lanes(int lanes);
+
+        /**
+         * Sets the {@code Executor} used to compute all but the first lane, which is always computed by the
+         * calling thread.  Defaults to the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool},
+         * which is bounded by the number of available processors.
+         *
+         * @param executor the executor used to compute lanes concurrently
+         * @return the params for method chaining.
+         */
+        Params executor(Executor executor);
+    }
+
+    /**
+     * Returns the {@link PbeMacAlgorithm} used to compute each lane.
+     *
+     * @return the {@link PbeMacAlgorithm} used to compute each lane.
+     */
+    PbeMacAlgorithm pbeMacAlgorithm();
+
+    /**
+     * Returns {@code true} if the specified password, with the salt, cost and lane count retained by the specified
+     * {@code digest}, produces the same digest (of an empty message) as the given {@code digest}, {@code false}
+     * otherwise.  The comparison is performed in constant time.
+     *
+     * @param password the password to verify
+     * @param digest   the previously computed digest, including the salt, cost and lanes used to compute it
+     * @return {@code true} if the password produces the same digest, {@code false} otherwise.
+     */
+    @Override
+    default boolean verify(Password password, ParallelPasswordDigest digest) {
+        Assert.notNull(password, "Password cannot be null.");
+        Assert.notNull(digest, "PasswordDigest cannot be null.");
+        if (!equals(digest.algorithm())) return false;
+        return with(p -> p.key(password).salt(digest.salt()).cost(digest.cost()).lanes(digest.lanes()))
+                .test(digest.octets());
+    }
+}
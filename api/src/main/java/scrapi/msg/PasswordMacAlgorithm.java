@@ -18,6 +18,7 @@ package scrapi.msg;
 import scrapi.key.Password;
 import scrapi.key.PasswordGenerator;
 import scrapi.key.PasswordStretcher;
+import scrapi.util.Assert;
 
 public interface PasswordMacAlgorithm<
         S extends PasswordStretcher<S>,
@@ -25,4 +26,20 @@ public interface PasswordMacAlgorithm<
         T extends PasswordMacAlgorithm<S, D, T>
         >
         extends MacAlgorithm<Password, S, PasswordGenerator, D, T> {
+
+    /**
+     * Returns {@code true} if the specified password, with the salt and cost retained by the specified
+     * {@code digest}, produces the same digest (of an empty message) as the given {@code digest}, {@code false}
+     * otherwise.  The comparison is performed in constant time.
+     *
+     * @param password the password to verify
+     * @param digest   the previously computed digest, including the salt and cost used to compute it
+     * @return {@code true} if the password produces the same digest, {@code false} otherwise.
+     */
+    default boolean verify(Password password, D digest) {
+        Assert.notNull(password, "Password cannot be null.");
+        Assert.notNull(digest, "PasswordDigest cannot be null.");
+        if (!equals(digest.algorithm())) return false;
+        return with(p -> p.key(password).salt(digest.salt()).cost(digest.cost())).test(digest.octets());
+    }
 }
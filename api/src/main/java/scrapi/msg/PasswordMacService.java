@@ -0,0 +1,171 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.msg;
+
+import scrapi.key.Password;
+import scrapi.key.PasswordStretcher;
+import scrapi.spi.Implementation;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * Computes and verifies {@link PasswordMacAlgorithm password digests} asynchronously on a dedicated, bounded
+ * pool of threads, so that deliberately expensive password hashing neither blocks request threads nor, under a
+ * surge of requests (e.g. a login storm), starves the rest of the JVM of CPU.
+ *
+ * <p>At most {@link Builder#threads(int) threads} computations run concurrently, and at most
+ * {@link Builder#queueCapacity(int) queueCapacity} more wait for a thread.  When both are exhausted, further
+ * requests are not queued: the returned future instead completes immediately and exceptionally with a
+ * {@link RejectedExecutionException}, which callers should treat as backpressure (e.g. by responding with
+ * HTTP 503).  Rejections and other activity are reported by {@link #metrics()}.</p>
+ *
+ * <p>A service is thread-safe and is intended to be shared; {@link #close() close} it when it is no longer
+ * needed.</p>
+ */
+public interface PasswordMacService extends AutoCloseable {
+
+    /**
+     * Returns a new {@link Builder} to configure and create a {@code PasswordMacService}.
+     *
+     * @return a new {@link Builder} to configure and create a {@code PasswordMacService}.
+     */
+    static Builder builder() {
+        return Implementation.instance().passwordMacServiceBuilder();
+    }
+
+    /**
+     * Asynchronously computes the specified algorithm's digest of {@code message}, using the password, salt, cost,
+     * etc. provided by {@code params}.
+     *
+     * <p>{@code message} is copied, so the caller may modify it as soon as this method returns.  However,
+     * {@code params} is invoked on a service thread, so any {@link Password} it provides must not be destroyed
+     * until the returned future completes.  The lanes of a {@link ParallelPbeMacAlgorithm} are computed on the
+     * service thread (not the common pool) unless {@code params} specifies another
+     * {@link ParallelPbeMacAlgorithm.Params#executor(java.util.concurrent.Executor) executor}.</p>
+     *
+     * @param alg     the password MAC algorithm to use
+     * @param params  consumer that provides the algorithm parameters, invoked on a service thread
+     * @param message the message to digest
+     * @param <S>     the algorithm parameters type
+     * @param <D>     the resulting digest type
+     * @param <T>     the algorithm type
+     * @return a future completed with the resulting digest, or exceptionally with a
+     * {@link RejectedExecutionException} if the service is saturated or closed.
+     */
+    <S extends PasswordStretcher<S>, D extends PasswordDigest<T>, T extends PasswordMacAlgorithm<S, D, T>>
+    CompletableFuture<D> digest(T alg, Consumer<S> params, byte[] message);
+
+    /**
+     * Asynchronously {@link PasswordMacAlgorithm#verify(Password, PasswordDigest) verifies} the specified password
+     * against a previously computed digest.  The password is copied, so the caller may destroy it as soon as this
+     * method returns.  The lanes of a {@link ParallelPasswordDigest} are computed on the service thread.
+     *
+     * @param alg      the password MAC algorithm that computed the digest
+     * @param password the password to verify
+     * @param digest   the previously computed digest
+     * @param <S>      the algorithm parameters type
+     * @param <D>      the digest type
+     * @param <T>      the algorithm type
+     * @return a future completed with the verification result, or exceptionally with a
+     * {@link RejectedExecutionException} if the service is saturated or closed.
+     */
+    <S extends PasswordStretcher<S>, D extends PasswordDigest<T>, T extends PasswordMacAlgorithm<S, D, T>>
+    CompletableFuture<Boolean> verify(T alg, Password password, D digest);
+
+    /**
+     * Returns a live view of the service's activity.
+     *
+     * @return a live view of the service's activity.
+     */
+    Metrics metrics();
+
+    /**
+     * Stops accepting new requests; requests already accepted are still completed.
+     */
+    @Override
+    void close();
+
+    /**
+     * Live {@link PasswordMacService} activity counters.
+     */
+    interface Metrics {
+
+        /**
+         * Returns the number of requests accepted for execution.
+         *
+         * @return the number of requests accepted for execution.
+         */
+        long accepted();
+
+        /**
+         * Returns the number of requests rejected because the service was saturated or closed.
+         *
+         * @return the number of requests rejected because the service was saturated or closed.
+         */
+        long rejected();
+
+        /**
+         * Returns the number of accepted requests that have completed, successfully or not.
+         *
+         * @return the number of accepted requests that have completed, successfully or not.
+         */
+        long completed();
+
+        /**
+         * Returns the number of requests currently executing.
+         *
+         * @return the number of requests currently executing.
+         */
+        int active();
+
+        /**
+         * Returns the number of accepted requests waiting for a thread.
+         *
+         * @return the number of accepted requests waiting for a thread.
+         */
+        int queued();
+    }
+
+    interface Builder {
+
+        /**
+         * Sets the maximum number of concurrent computations, defaults to the number of available processors.
+         *
+         * @param threads the maximum number of concurrent computations, must be &gt; 0
+         * @return the builder for method chaining.
+         */
+        Builder threads(int threads);
+
+        /**
+         * Sets the maximum number of requests that may wait for a thread before further requests are rejected,
+         * defaults to {@code 16} times the number of {@link #threads(int) threads}.  Zero means requests are
+         * rejected whenever all threads are busy.
+         *
+         * @param capacity the maximum number of waiting requests, must be &gt;= 0
+         * @return the builder for method chaining.
+         */
+        Builder queueCapacity(int capacity);
+
+        /**
+         * Creates a new {@link PasswordMacService}.
+         *
+         * @return a new {@link PasswordMacService}.
+         */
+        PasswordMacService build();
+    }
+}
@@ -15,14 +15,146 @@
  */
 package scrapi.msg;
 
+import scrapi.key.Password;
 import scrapi.key.PasswordStretcher;
 import scrapi.lang.Registry;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 public interface PbeMacAlgorithm extends PasswordMacAlgorithm<PbeMacAlgorithm.Params, PasswordDigest<PbeMacAlgorithm>, PbeMacAlgorithm> {
 
     interface Params extends PasswordStretcher<Params> {
     }
 
+    /**
+     * The result of {@link #verifyAndUpgrade(Password, PasswordDigest, int, Executor) verifying} a password
+     * against a stored digest, including whether the stored digest is below the current policy and, if so, its
+     * replacement.
+     */
+    interface Upgrade {
+
+        /**
+         * Returns {@code true} if the password matched the stored digest, {@code false} otherwise.
+         *
+         * @return {@code true} if the password matched the stored digest, {@code false} otherwise.
+         */
+        boolean verified();
+
+        /**
+         * Returns {@code true} if the stored digest's cost is less than the policy cost.
+         *
+         * @return {@code true} if the stored digest's cost is less than the policy cost.
+         */
+        boolean costOutdated();
+
+        /**
+         * Returns {@code true} if the stored digest's salt is shorter than the upgrading algorithm's digest size.
+         *
+         * @return {@code true} if the stored digest's salt is shorter than the upgrading algorithm's digest size.
+         */
+        boolean saltOutdated();
+
+        /**
+         * Returns {@code true} if the stored digest was computed with an algorithm other than the upgrading
+         * algorithm.
+         *
+         * @return {@code true} if the stored digest was computed with an algorithm other than the upgrading
+         * algorithm.
+         */
+        boolean algorithmOutdated();
+
+        /**
+         * Returns {@code true} if the cost, salt or algorithm of the stored digest is outdated.
+         *
+         * @return {@code true} if the cost, salt or algorithm of the stored digest is outdated.
+         */
+        default boolean outdated() {
+            return costOutdated() || saltOutdated() || algorithmOutdated();
+        }
+
+        /**
+         * Returns the replacement digest to persist in place of the stored digest, computed with the upgrading
+         * algorithm, the policy cost and a new random salt.  The future completes with {@code null} if the
+         * password was not {@link #verified() verified} or the stored digest is not {@link #outdated() outdated},
+         * in which case nothing needs to be persisted.
+         *
+         * @return the replacement digest to persist in place of the stored digest, or a future that completes
+         * with {@code null} if there is no replacement.
+         */
+        CompletableFuture<PasswordDigest<PbeMacAlgorithm>> digest();
+    }
+
+    /**
+     * Returns a {@link ParallelPbeMacAlgorithm} that divides the cost of this algorithm across lanes that are
+     * computed concurrently.
+     *
+     * @return a {@link ParallelPbeMacAlgorithm} that divides the cost of this algorithm across lanes that are
+     * computed concurrently.
+     */
+    ParallelPbeMacAlgorithm parallel();
+
+    /**
+     * Returns the {@link scrapi.key.PasswordStretcher#cost(int) cost} (iteration count) for which computing a
+     * digest with this algorithm takes approximately the specified {@code target} duration on the local machine,
+     * and never less than the minimum allowed iteration count ({@code 1024}).
+     *
+     * <p>The first call measures this algorithm's throughput, after a warm-up period, which may take up to a few
+     * seconds.  The measurement is cached, so subsequent calls for any target return immediately.  As with any
+     * benchmark, the result is affected by concurrent load, so calibration is best performed at application
+     * startup, and the result should be stored with each digest (as {@link PasswordDigest#cost()} is) rather
+     * than assumed when verifying.</p>
+     *
+     * @param target the desired duration of a single digest computation
+     * @return the iteration count that most closely meets the {@code target} duration, never less than
+     * {@code 1024}.
+     * @throws NullPointerException     if {@code target} is null.
+     * @throws IllegalArgumentException if {@code target} is zero or negative.
+     */
+    int calibrate(Duration target) throws IllegalArgumentException;
+
+    /**
+     * Verifies the password against the {@code stored} digest and, if it matches and the digest does not meet
+     * this algorithm's default policy, computes its replacement synchronously.  This is the same as
+     * {@link #verifyAndUpgrade(Password, PasswordDigest, int, Executor)} with this algorithm's default cost and
+     * a caller-runs executor.
+     *
+     * @param password the password to verify
+     * @param stored   the stored digest, computed by any {@link PbeMacAlgorithm} or {@link ParallelPbeMacAlgorithm}
+     * @return the verification result and any replacement digest, already computed.
+     * @throws NullPointerException     if either argument is null.
+     * @throws IllegalArgumentException if the stored digest was not computed by a {@link PbeMacAlgorithm} or
+     *                                  {@link ParallelPbeMacAlgorithm}.
+     */
+    Upgrade verifyAndUpgrade(Password password, PasswordDigest<?> stored) throws IllegalArgumentException;
+
+    /**
+     * Verifies the password against the {@code stored} digest and, if it matches and the digest does not meet the
+     * current policy, computes a replacement digest with this algorithm, a new random salt of this algorithm's
+     * digest size, and the specified policy {@code cost}.  The stored digest does not meet the policy if its cost
+     * is lower than {@code cost}, its salt is shorter than this algorithm's digest size, or it was computed by a
+     * different algorithm (including this algorithm's {@link #parallel() parallel} variant).
+     *
+     * <p>Only verification happens on the calling thread.  The replacement is computed by the {@code executor},
+     * so a login need not wait for the (more expensive) new digest before it completes.  The password is copied
+     * for the replacement computation, so the caller may destroy it as soon as this method returns.  If the
+     * executor rejects the task, the {@link Upgrade#digest() digest} future completes exceptionally, and the
+     * upgrade is simply attempted again on a later verification.</p>
+     *
+     * @param password the password to verify
+     * @param stored   the stored digest, computed by any {@link PbeMacAlgorithm} or {@link ParallelPbeMacAlgorithm}
+     * @param cost     the minimum cost required by the current policy, and the cost of any replacement digest
+     * @param executor the executor that computes any replacement digest, e.g. {@code Runnable::run} to compute it
+     *                 on the calling thread.
+     * @return the verification result and any replacement digest.
+     * @throws NullPointerException     if {@code password}, {@code stored} or {@code executor} is null.
+     * @throws IllegalArgumentException if {@code cost} is less than {@code 1024}, or the stored digest was not
+     *                                  computed by a {@link PbeMacAlgorithm} or {@link ParallelPbeMacAlgorithm}.
+     */
+    Upgrade verifyAndUpgrade(Password password, PasswordDigest<?> stored, int cost, Executor executor)
+            throws IllegalArgumentException;
+
     /**
      * Returns a registry of all
      * <a href="https://docs.oracle.com/en/java/javase/21/docs/specs/security/standard-names.html#messagedigest-algorithms">Java
@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.msg;
+
+import scrapi.key.Password;
+import scrapi.spi.Implementation;
+
+/**
+ * Encodes {@link PasswordDigest}s as, and parses them from,
+ * <a href="https://github.com/P-H-C/phc-string-format/blob/master/phc-sf-spec.md">PHC strings</a>, suitable for
+ * persistent storage, for example:
+ *
+ * <pre>{@code $pbe-hmac-sha256$i=600000$<base64 salt>$<base64 digest>}</pre>
+ *
+ * <p>The identifier is derived from the algorithm id, e.g. {@code PBEWithHmacSHA512/256} is
+ * {@code pbe-hmac-sha512-256}.  Note that these algorithms compute an HMAC keyed with the PBKDF2-derived key rather
+ * than returning that key directly, so their digests are deliberately not identified as {@code pbkdf2-*} and are not
+ * interchangeable with other libraries' PBKDF2 hashes.  {@link ParallelPbeMacAlgorithm} digests add a {@code -parallel}
+ * suffix and an {@code l} (lanes) parameter, e.g. {@code $pbe-hmac-sha256-parallel$i=600000,l=4$...}.</p>
+ *
+ * <p>Parsing does not use regular expressions or string splitting, and {@link #verify(CharSequence, Password)}
+ * decodes the expected digest into a reusable per-thread buffer.</p>
+ */
+public interface PhcCodec {
+
+    /**
+     * Returns the shared {@code PhcCodec} instance.
+     *
+     * @return the shared {@code PhcCodec} instance.
+     */
+    static PhcCodec instance() {
+        return Implementation.instance().phcCodec();
+    }
+
+    /**
+     * Returns the PHC string representation of the specified digest.
+     *
+     * @param digest the digest to encode
+     * @return the PHC string representation of the specified digest.
+     * @throws IllegalArgumentException if the digest's algorithm has no PHC string representation.
+     */
+    String encode(PasswordDigest<?> digest) throws IllegalArgumentException;
+
+    /**
+     * Parses the specified PHC string.
+     *
+     * @param phc the PHC string to parse
+     * @return the parsed PHC string
+     * @throws IllegalArgumentException if {@code phc} is not a valid PHC string of a supported algorithm.
+     */
+    PhcString parse(CharSequence phc) throws IllegalArgumentException;
+
+    /**
+     * Returns {@code true} if the specified password produces the digest represented by the specified PHC string,
+     * {@code false} otherwise.  Equivalent to {@code parse(phc).verify(password)}, but without retaining the
+     * decoded digest.
+     *
+     * @param phc      the PHC string of a previously computed digest
+     * @param password the password to verify
+     * @return {@code true} if the specified password produces the digest represented by the PHC string,
+     * {@code false} otherwise.
+     * @throws IllegalArgumentException if {@code phc} is not a valid PHC string of a supported algorithm.
+     */
+    boolean verify(CharSequence phc, Password password) throws IllegalArgumentException;
+
+    /**
+     * A parsed PHC string.
+     */
+    interface PhcString {
+
+        /**
+         * Returns the algorithm that computed the digest.
+         *
+         * @return the algorithm that computed the digest.
+         */
+        PasswordMacAlgorithm<?, ?, ?> algorithm();
+
+        /**
+         * Returns the encoded digest, including its salt and cost (and lanes, if applicable).
+         *
+         * @return the encoded digest, including its salt and cost (and lanes, if applicable).
+         */
+        PasswordDigest<?> digest();
+
+        /**
+         * Returns a new hasher for the specified password that is configured with the salt and cost (and
+         * lanes, if applicable) of the encoded digest.  Its {@link Hasher#test(byte[]) test} method may be used
+         * to verify the password, or it may process a message.
+         *
+         * @param password the password to verify
+         * @return a new hasher for the specified password that is configured with the encoded digest's parameters.
+         */
+        Hasher<? extends PasswordDigest<?>> hasher(Password password);
+
+        /**
+         * Returns {@code true} if the specified password produces the encoded digest (of an empty message),
+         * {@code false} otherwise.  The comparison is performed in constant time.
+         *
+         * @param password the password to verify
+         * @return {@code true} if the specified password produces the encoded digest, {@code false} otherwise.
+         */
+        boolean verify(Password password);
+    }
+}
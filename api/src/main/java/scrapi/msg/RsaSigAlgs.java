@@ -16,7 +16,7 @@
 package scrapi.msg;
 
 import scrapi.lang.Registry;
-import scrapi.util.Classes;
+import scrapi.spi.Implementation;
 
 final class RsaSigAlgs {
 
@@ -24,6 +24,5 @@ final class RsaSigAlgs {
     private RsaSigAlgs() {
     }
 
-    private static final String IMPL_CLASSNAME = "scrapi.impl.msg.DefaultRsaSignatureAlgorithmRegistry";
-    static final Registry<String, RsaSignatureAlgorithm<?, ?, ?>> REGISTRY = Classes.newInstance(IMPL_CLASSNAME);
+    static final Registry<String, RsaSignatureAlgorithm<?, ?, ?>> REGISTRY = Implementation.instance().rsaSignatureAlgorithms();
 }
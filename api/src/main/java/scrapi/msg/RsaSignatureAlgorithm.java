@@ -52,4 +52,45 @@ public interface RsaSignatureAlgorithm<
     RsaSignatureAlgorithm<?, ?, ?> RS3_256 = registry().forKey("SHA3-256withRSA");
     RsaSignatureAlgorithm<?, ?, ?> RS3_384 = registry().forKey("SHA3-384withRSA");
     RsaSignatureAlgorithm<?, ?, ?> RS3_512 = registry().forKey("SHA3-512withRSA");
+
+    /**
+     * Returns the hash algorithm this signature algorithm applies to messages before signing them, for example,
+     * {@link HashAlgorithm#SHA_256 SHA-256} for {@code SHA256withRSA}.
+     *
+     * @return the hash algorithm this signature algorithm applies to messages before signing them.
+     */
+    HashAlgorithm hashAlgorithm();
+
+    /**
+     * Signs a message digest that has already been computed with this algorithm's
+     * {@link #hashAlgorithm() hash algorithm}, producing exactly the same signature as signing the original message
+     * with {@link #with(scrapi.key.PrivateKey) with(priv)}.
+     *
+     * <p>This allows the (potentially very large) message to be hashed once, in whatever manner is most efficient,
+     * for example, as it is received or written, after which signing takes a constant amount of time regardless of
+     * message size.</p>
+     *
+     * @param priv   the private key to sign with
+     * @param digest the message digest to sign, produced by this algorithm's {@link #hashAlgorithm() hash algorithm}
+     * @return the signature of the digested message.
+     * @throws NullPointerException     if either argument is null.
+     * @throws IllegalArgumentException if the digest was not produced by this algorithm's hash algorithm.
+     * @throws MessageException         if the signature cannot be produced.
+     */
+    Signature<RsaSignatureAlgorithm<SP, VP, G>> sign(RsaPrivateKey priv, Digest<HashAlgorithm> digest);
+
+    /**
+     * Verifies a signature against a message digest that has already been computed with this algorithm's
+     * {@link #hashAlgorithm() hash algorithm}, returning exactly the same result as verifying the original message
+     * with {@link #with(scrapi.key.PublicKey) with(pub)}.
+     *
+     * @param pub       the public key to verify with
+     * @param digest    the message digest, produced by this algorithm's {@link #hashAlgorithm() hash algorithm}
+     * @param signature the signature to verify
+     * @return {@code true} if the signature is valid for the digested message, {@code false} otherwise.
+     * @throws NullPointerException     if any argument is null.
+     * @throws IllegalArgumentException if the digest was not produced by this algorithm's hash algorithm.
+     * @throws MessageException         if the signature cannot be verified, for example, if it is malformed.
+     */
+    boolean verify(RsaPublicKey pub, Digest<HashAlgorithm> digest, byte[] signature);
 }
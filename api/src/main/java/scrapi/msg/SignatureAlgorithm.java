@@ -20,6 +20,12 @@ import scrapi.key.KeyGenerator;
 import scrapi.key.Keyable;
 import scrapi.key.PrivateKey;
 import scrapi.key.PublicKey;
+import scrapi.util.Assert;
+
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
 public interface SignatureAlgorithm<
         S extends PrivateKey<?, P>,
@@ -30,4 +36,78 @@ public interface SignatureAlgorithm<
         T extends SignatureAlgorithm<S, P, SP, VP, G, T>
         >
         extends AuthenticityAlgorithm<S, P, SP, VP, Signature<T>, Signer<T>, Verifier, G, T> {
+
+    /**
+     * A message, its signature, and the public key that verifies the signature, for
+     * {@link #verifyAll(List, boolean) batch verification}.
+     *
+     * @param <P> the type of public key
+     */
+    interface SignedMessage<P extends PublicKey<?>> {
+
+        /**
+         * Returns a new {@code SignedMessage} that retains (but does not copy) the specified arrays.
+         *
+         * @param key       the public key that verifies the signature
+         * @param message   the signed message
+         * @param signature the signature to verify
+         * @param <P>       the type of public key
+         * @return a new {@code SignedMessage}.
+         * @throws NullPointerException if any argument is null.
+         */
+        static <P extends PublicKey<?>> SignedMessage<P> of(P key, byte[] message, byte[] signature) {
+            return new DefaultSignedMessage<>(key, message, signature);
+        }
+
+        P key();
+
+        byte[] message();
+
+        byte[] signature();
+    }
+
+    /**
+     * Verifies every signed message, returning a {@link BitSet} in which bit {@code i} is set if and only if the
+     * signature of {@code messages.get(i)} is valid.  This is the same as {@code verifyAll(messages, false)}.
+     *
+     * @param messages the signed messages to verify
+     * @return the verification results, one bit per message.
+     */
+    default BitSet verifyAll(List<? extends SignedMessage<? extends P>> messages) {
+        return verifyAll(messages, false);
+    }
+
+    /**
+     * Verifies every signed message, returning a {@link BitSet} in which bit {@code i} is set if and only if the
+     * signature of {@code messages.get(i)} is valid.  Each {@link Verifier} (and therefore each JCA engine) is
+     * reused for all messages with the same public key instance, and implementations may verify large batches
+     * in parallel.
+     *
+     * <p>If {@code failFast} is {@code true}, verification stops as soon as any signature is found to be invalid,
+     * and the bits of messages that were not verified are clear.  A fail-fast result therefore reliably indicates
+     * whether all signatures are valid (i.e. its {@link BitSet#cardinality() cardinality} equals
+     * {@code messages.size()}), but not which other signatures are invalid.</p>
+     *
+     * @param messages the signed messages to verify
+     * @param failFast whether to stop at the first invalid signature
+     * @return the verification results, one bit per message.
+     * @throws NullPointerException if {@code messages} is null or contains null elements.
+     */
+    default BitSet verifyAll(List<? extends SignedMessage<? extends P>> messages, boolean failFast) {
+        Assert.notNull(messages, "messages cannot be null.");
+        BitSet results = new BitSet(messages.size());
+        Map<P, Verifier> verifiers = new IdentityHashMap<>();
+        int i = 0;
+        for (SignedMessage<? extends P> message : messages) {
+            Assert.notNull(message, "messages cannot contain null elements.");
+            Verifier verifier = verifiers.computeIfAbsent(message.key(), key -> verifier(c -> c.key(key)));
+            if (verifier.apply(message.message()).test(message.signature())) {
+                results.set(i);
+            } else if (failFast) {
+                break;
+            }
+            i++;
+        }
+        return results;
+    }
 }
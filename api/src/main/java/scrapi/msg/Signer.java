@@ -17,6 +17,12 @@ package scrapi.msg;
 
 import java.util.function.Supplier;
 
+/**
+ * A {@link MessageConsumer} that computes a digital signature of all applied message data.  A {@code Signer} is
+ * reset after each call to {@link #get()}, and may then be reused to sign another message with the same key.
+ *
+ * @param <A> the type of signature algorithm
+ */
 public interface Signer<A extends SignatureAlgorithm<?, ?, ?, ?, ?, ?>>
         extends MessageConsumer<Signer<A>>, Supplier<Signature<A>> {
 }
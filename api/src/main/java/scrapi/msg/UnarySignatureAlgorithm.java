@@ -21,6 +21,8 @@ import scrapi.key.Keyable;
 import scrapi.key.PrivateKey;
 import scrapi.key.PublicKey;
 
+import java.util.function.Supplier;
+
 /**
  * A Unary {@code SignatureAlgorithm} requires only a single {@code key} parameter to produce either a
  * {@link Signer} or {@link Verifier}.
@@ -44,4 +46,28 @@ public interface UnarySignatureAlgorithm<
     default Verifier with(P pub) {
         return verifier(c -> c.key(pub));
     }
+
+    /**
+     * Returns a thread-safe supplier of signers for the specified private key, intended for long-lived keys that
+     * will produce many signatures.  Unlike {@link #with(PrivateKey) with(priv)}, which obtains a new JCA
+     * {@code Signature} and initializes it with the key every time, the returned supplier's signers reuse
+     * per-thread {@code Signature} instances that were initialized with the key once.
+     *
+     * @param priv the private key to use for all signers produced by the returned supplier
+     * @return a thread-safe supplier of signers for the specified private key.
+     * @throws NullPointerException if {@code priv} is null.
+     */
+    Supplier<Signer<T>> prepare(S priv);
+
+    /**
+     * Returns a thread-safe supplier of verifiers for the specified public key, intended for long-lived keys that
+     * will verify many signatures.  Unlike {@link #with(PublicKey) with(pub)}, which obtains a new JCA
+     * {@code Signature} and initializes it with the key every time, the returned supplier's verifiers reuse
+     * per-thread {@code Signature} instances that were initialized with the key once.
+     *
+     * @param pub the public key to use for all verifiers produced by the returned supplier
+     * @return a thread-safe supplier of verifiers for the specified public key.
+     * @throws NullPointerException if {@code pub} is null.
+     */
+    Supplier<Verifier> prepare(P pub);
 }
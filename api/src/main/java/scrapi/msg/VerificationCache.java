@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.msg;
+
+import scrapi.key.Keyable;
+import scrapi.key.PublicKey;
+import scrapi.spi.Implementation;
+
+import java.time.Duration;
+
+/**
+ * An opt-in, bounded cache of successful signature verifications, for applications that repeatedly verify the
+ * same signed messages (e.g. a gateway verifying the same tokens on every request).
+ *
+ * <p>A {@link #verifier(SignatureAlgorithm, PublicKey) cached verifier} digests each message with SHA-256 as it
+ * is applied.  When tested, it derives a cache key from the SHA-256 digest of the algorithm id, the public key
+ * encoding, the message digest and the signature.  If an unexpired entry exists for that key, the signature is
+ * accepted without a public key operation and without obtaining a JCA {@code Signature}.  Otherwise the message
+ * is verified by the algorithm's own {@link SignatureAlgorithm#verifier(java.util.function.Consumer) verifier},
+ * and the result is cached only if the signature is valid.  Invalid signatures are never cached, so they are
+ * always fully verified.</p>
+ *
+ * <p>Entries expire after the {@link Builder#ttl(Duration) ttl}, and the oldest entries are evicted once the
+ * cache holds {@link Builder#maximumSize(int) maximumSize} entries.  Entries for a key are also discarded when
+ * the key is destroyed, or explicitly via {@link #invalidate(PublicKey)}.</p>
+ *
+ * <p>A cache is thread-safe and is intended to be shared.  Verifiers it creates are not thread-safe, as with any
+ * other {@link MessageConsumer}.</p>
+ */
+public interface VerificationCache {
+
+    /**
+     * Returns a new {@link Builder} to configure and create a {@code VerificationCache}.
+     *
+     * @return a new {@link Builder} to configure and create a {@code VerificationCache}.
+     */
+    static Builder builder() {
+        return Implementation.instance().verificationCacheBuilder();
+    }
+
+    /**
+     * Returns a new {@link Verifier} that verifies signatures created by the specified algorithm with the private
+     * key corresponding to the specified public key, answering repeated verifications from this cache.
+     *
+     * @param alg the signature algorithm
+     * @param key the public key used to verify signatures
+     * @param <P> the type of public key
+     * @param <VP> the algorithm's verifier parameters type
+     * @return a new {@link Verifier} backed by this cache.
+     * @throws NullPointerException if either argument is null.
+     */
+    <P extends PublicKey<?>, VP extends Keyable<P, VP>> Verifier verifier(SignatureAlgorithm<?, P, ?, VP, ?, ?> alg,
+                                                                          P key) throws NullPointerException;
+
+    /**
+     * Removes all entries for the specified public key, or any other instance with the same encoding.
+     *
+     * @param key the public key whose entries should be removed.
+     */
+    void invalidate(PublicKey<?> key);
+
+    /**
+     * Removes all entries.
+     */
+    void clear();
+
+    /**
+     * Returns a live view of the cache's activity.
+     *
+     * @return a live view of the cache's activity.
+     */
+    Metrics metrics();
+
+    /**
+     * Live {@link VerificationCache} activity counters.
+     */
+    interface Metrics {
+
+        /**
+         * Returns the number of verifications answered by the cache.
+         *
+         * @return the number of verifications answered by the cache.
+         */
+        long hits();
+
+        /**
+         * Returns the number of verifications that required a public key operation.
+         *
+         * @return the number of verifications that required a public key operation.
+         */
+        long misses();
+
+        /**
+         * Returns the number of entries removed due to expiry, size or key destruction.  Explicit invalidation
+         * is not counted.
+         *
+         * @return the number of entries removed due to expiry, size or key destruction.
+         */
+        long evictions();
+
+        /**
+         * Returns the current number of entries.
+         *
+         * @return the current number of entries.
+         */
+        int size();
+
+        /**
+         * Returns the ratio of {@link #hits() hits} to all verifications, or {@code 0} if there have been none.
+         *
+         * @return the ratio of {@link #hits() hits} to all verifications, or {@code 0} if there have been none.
+         */
+        default double hitRate() {
+            long hits = hits();
+            long total = hits + misses();
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+
+    interface Builder {
+
+        /**
+         * Sets the maximum number of entries retained, defaults to {@code 10,000}.
+         *
+         * @param size the maximum number of entries retained, must be &gt; 0
+         * @return the builder for method chaining.
+         */
+        Builder maximumSize(int size);
+
+        /**
+         * Sets how long a successful verification is retained, defaults to {@code 5} minutes.  This should not
+         * exceed the period after which a revoked key must stop being trusted.
+         *
+         * @param ttl how long a successful verification is retained, must be &gt; 0
+         * @return the builder for method chaining.
+         */
+        Builder ttl(Duration ttl);
+
+        /**
+         * Creates a new {@link VerificationCache}.
+         *
+         * @return a new {@link VerificationCache}.
+         */
+        VerificationCache build();
+    }
+}
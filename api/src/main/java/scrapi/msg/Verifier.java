@@ -17,6 +17,11 @@ package scrapi.msg;
 
 import java.util.function.Predicate;
 
+/**
+ * A {@link MessageConsumer} that verifies a digital signature of all applied message data.  A {@code Verifier} is
+ * reset after each call to {@link #test(Object) test(signature)}, and may then be reused to verify another message
+ * with the same key.
+ */
 public interface Verifier extends MessageConsumer<Verifier>, Predicate<byte[]> {
 
 }
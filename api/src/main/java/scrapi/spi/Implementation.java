@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.spi;
+
+import scrapi.key.Password;
+import scrapi.key.RsaPrimeFactor;
+import scrapi.lang.Registry;
+import scrapi.msg.HashAlgorithm;
+import scrapi.msg.HmacAlgorithm;
+import scrapi.msg.PasswordMacService;
+import scrapi.msg.PbeMacAlgorithm;
+import scrapi.msg.PhcCodec;
+import scrapi.msg.RsaSignatureAlgorithm;
+import scrapi.msg.VerificationCache;
+
+/**
+ * Service provider interface that connects the API to an implementation module.  An implementation registers
+ * exactly one {@code Implementation} as a {@link java.util.ServiceLoader ServiceLoader} service, i.e. in
+ * {@code META-INF/services/scrapi.spi.Implementation}, which is located once, on first use, and then invoked
+ * directly thereafter.
+ *
+ * <p>The registry methods are each called at most once, when the corresponding algorithm family is first
+ * accessed, and the API retains the result.  Implementations should therefore create registries on demand
+ * rather than eagerly, so that using one algorithm family doesn't incur the cost of initializing all of
+ * them.</p>
+ */
+public interface Implementation {
+
+    /**
+     * Returns the {@code Implementation} found via the {@link java.util.ServiceLoader ServiceLoader}.
+     *
+     * @return the {@code Implementation} found via the {@link java.util.ServiceLoader ServiceLoader}.
+     * @throws IllegalStateException if no implementation is available at runtime.
+     */
+    static Implementation instance() throws IllegalStateException {
+        return Implementations.INSTANCE;
+    }
+
+    /**
+     * Returns a new registry of all supported {@link HashAlgorithm}s.
+     *
+     * @return a new registry of all supported {@link HashAlgorithm}s.
+     */
+    Registry<String, HashAlgorithm> hashAlgorithms();
+
+    /**
+     * Returns a new registry of all supported {@link HmacAlgorithm}s.
+     *
+     * @return a new registry of all supported {@link HmacAlgorithm}s.
+     */
+    Registry<String, HmacAlgorithm> hmacAlgorithms();
+
+    /**
+     * Returns a new registry of all supported {@link PbeMacAlgorithm}s.
+     *
+     * @return a new registry of all supported {@link PbeMacAlgorithm}s.
+     */
+    Registry<String, PbeMacAlgorithm> pbeMacAlgorithms();
+
+    /**
+     * Returns a new registry of all supported {@link RsaSignatureAlgorithm}s.
+     *
+     * @return a new registry of all supported {@link RsaSignatureAlgorithm}s.
+     */
+    Registry<String, RsaSignatureAlgorithm<?, ?, ?>> rsaSignatureAlgorithms();
+
+    /**
+     * Returns a new {@link Password} that retains a copy of the specified characters.
+     *
+     * @param chars the password characters
+     * @return a new {@link Password} that retains a copy of the specified characters.
+     */
+    Password password(char[] chars);
+
+    /**
+     * Returns a new {@link PasswordMacService.Builder}.
+     *
+     * @return a new {@link PasswordMacService.Builder}.
+     */
+    PasswordMacService.Builder passwordMacServiceBuilder();
+
+    /**
+     * Returns the {@link PhcCodec}.
+     *
+     * @return the {@link PhcCodec}.
+     */
+    PhcCodec phcCodec();
+
+    /**
+     * Returns a new {@link RsaPrimeFactor.Builder}.
+     *
+     * @return a new {@link RsaPrimeFactor.Builder}.
+     */
+    RsaPrimeFactor.Builder rsaPrimeFactorBuilder();
+
+    /**
+     * Returns a new {@link VerificationCache.Builder}.
+     *
+     * @return a new {@link VerificationCache.Builder}.
+     */
+    VerificationCache.Builder verificationCacheBuilder();
+}
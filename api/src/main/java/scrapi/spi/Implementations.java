@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.spi;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+final class Implementations {
+
+    private Implementations() {
+    } // prevent instantiation
+
+    static final Implementation INSTANCE = load();
+
+    private static Implementation load() {
+        Implementation impl = load(Implementation.class.getClassLoader());
+        if (impl == null) { // e.g. API and implementation loaded by different class loaders:
+            ClassLoader cl = Thread.currentThread().getContextClassLoader();
+            if (cl != null && cl != Implementation.class.getClassLoader()) {
+                impl = load(cl);
+            }
+        }
+        if (impl == null) {
+            String msg = "Unable to find a " + Implementation.class.getName() + " service implementation. " +
+                    "Ensure the scrapi-impl module is available at runtime.";
+            throw new IllegalStateException(msg);
+        }
+        return impl;
+    }
+
+    private static Implementation load(ClassLoader cl) {
+        Iterator<Implementation> i = ServiceLoader.load(Implementation.class, cl).iterator();
+        return i.hasNext() ? i.next() : null;
+    }
+}
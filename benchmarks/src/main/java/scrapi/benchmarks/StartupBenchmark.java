@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import scrapi.msg.HashAlgorithm;
+import scrapi.msg.HmacAlgorithm;
+import scrapi.msg.PbeMacAlgorithm;
+import scrapi.msg.RsaSignatureAlgorithm;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cold-start cost of the first access to each algorithm family, i.e. class initialization of the
+ * algorithm constants and creation of their registries.  Every measurement runs exactly once in a fresh JVM, so
+ * many forks are needed for a stable result.
+ *
+ * <p>{@link #firstHash()} additionally digests a message, which includes the (deferred) JCA engine lookup for
+ * that one algorithm, so the difference between it and {@link #hashAlgorithm()} shows what a first use costs on
+ * top of class initialization.</p>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+
+    private static final byte[] MESSAGE = new byte[16];
+
+    @Benchmark
+    public Object hashAlgorithm() {
+        return HashAlgorithm.SHA_256;
+    }
+
+    @Benchmark
+    public Object hmacAlgorithm() {
+        return HmacAlgorithm.HS256;
+    }
+
+    @Benchmark
+    public Object pbeMacAlgorithm() {
+        return PbeMacAlgorithm.PBEHS256;
+    }
+
+    @Benchmark
+    public Object rsaSignatureAlgorithm() {
+        return RsaSignatureAlgorithm.RS256;
+    }
+
+    @Benchmark
+    public byte[] firstHash() {
+        return HashAlgorithm.SHA_256.get().apply(MESSAGE).get().octets();
+    }
+}
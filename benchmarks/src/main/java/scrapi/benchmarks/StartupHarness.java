@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.benchmarks;
+
+import scrapi.msg.HashAlgorithm;
+import scrapi.msg.Hasher;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures time-to-first-{@code HashAlgorithm.SHA_256.get()} in fresh JVMs, i.e. the cold start cost an
+ * application or serverless function pays before its first hash.  JMH's {@link StartupBenchmark} reports the
+ * same thing with more rigor, but this harness is cheap enough to run during every build.
+ *
+ * <p>Any command line arguments are passed as JVM options to each child JVM, which makes it easy to compare,
+ * for example, {@code -Xshare:off} against an AppCDS archive ({@code -XX:SharedArchiveFile=...}).  The number
+ * of child JVMs defaults to 10 and may be changed with the {@code scrapi.startup.runs} system property.</p>
+ */
+public final class StartupHarness {
+
+    private static final String RUNS_PROPERTY_NAME = "scrapi.startup.runs";
+
+    private StartupHarness() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int runs = Integer.getInteger(RUNS_PROPERTY_NAME, 10);
+        if (runs < 1) {
+            throw new IllegalArgumentException(RUNS_PROPERTY_NAME + " must be >= 1.");
+        }
+        List<String> cmd = new ArrayList<>();
+        cmd.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        cmd.addAll(Arrays.asList(args));
+        cmd.add("-cp");
+        cmd.add(System.getProperty("java.class.path"));
+        cmd.add(Probe.class.getName());
+
+        long[] first = new long[runs];
+        long[] uptime = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            Process p = new ProcessBuilder(cmd).redirectErrorStream(true).start();
+            String line;
+            try (BufferedReader r = new BufferedReader(new InputStreamReader(p.getInputStream(), StandardCharsets.UTF_8))) {
+                line = r.readLine();
+            }
+            int status = p.waitFor();
+            if (status != 0 || line == null) {
+                String msg = "Startup probe JVM failed with exit status " + status + ": " + line;
+                throw new IllegalStateException(msg);
+            }
+            String[] values = line.trim().split(" ");
+            first[i] = Long.parseLong(values[0]);
+            uptime[i] = Long.parseLong(values[1]);
+        }
+        Arrays.sort(first);
+        Arrays.sort(uptime);
+        System.out.printf("Time to first HashAlgorithm.SHA_256.get() over %d JVMs: min %.2f ms, median %.2f ms, " +
+                        "max %.2f ms (JVM uptime at that point: median %d ms)%n", runs, first[0] / 1e6,
+                first[runs / 2] / 1e6, first[runs - 1] / 1e6, uptime[runs / 2]);
+    }
+
+    /**
+     * Child JVM entry point: obtains the first hasher and reports the elapsed nanoseconds followed by the JVM
+     * uptime in milliseconds.
+     */
+    static final class Probe {
+
+        public static void main(String[] args) {
+            long start = System.nanoTime();
+            Hasher<?> hasher = HashAlgorithm.SHA_256.get();
+            long elapsed = System.nanoTime() - start;
+            long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+            System.out.println(elapsed + " " + uptime);
+            hasher.reset();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.benchmarks.msg;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scrapi.msg.HashAlgorithm;
+import scrapi.util.Bytes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Digesting a batch of small records with {@link HashAlgorithm#digestAll(List, byte[], int)} compared to creating
+ * a hasher and {@code Digest} per record.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DigestAllBenchmark {
+
+    @Param({"10000", "100000"})
+    public int records;
+
+    @Param({"64"})
+    public int recordSize;
+
+    private List<byte[]> messages;
+    private byte[] out;
+
+    @Setup
+    public void setup() {
+        this.messages = new ArrayList<>(this.records);
+        for (int i = 0; i < this.records; i++) {
+            this.messages.add(Bytes.random(this.recordSize));
+        }
+        this.out = new byte[this.records * HashAlgorithm.SHA_256.size().bytes()];
+    }
+
+    @Benchmark
+    public byte[] perRecord() { // baseline
+        int len = HashAlgorithm.SHA_256.size().bytes();
+        for (int i = 0; i < this.records; i++) {
+            byte[] digest = HashAlgorithm.SHA_256.get().apply(this.messages.get(i)).get().octets();
+            System.arraycopy(digest, 0, this.out, i * len, len);
+        }
+        return this.out;
+    }
+
+    @Benchmark
+    public byte[] digestAll() {
+        HashAlgorithm.SHA_256.digestAll(this.messages, this.out, 0);
+        return this.out;
+    }
+}
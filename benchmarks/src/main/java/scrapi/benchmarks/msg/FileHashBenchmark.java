@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.benchmarks.msg;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import scrapi.msg.HashAlgorithm;
+import scrapi.util.Bytes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hashing a file via {@link scrapi.msg.MessageConsumer#apply(Path)} (memory-mapped windows) and
+ * {@link scrapi.msg.MessageConsumer#apply(InputStream)} compared to a typical hand-written heap buffer read loop
+ * over a {@code MessageDigest}.  The file is created once per trial and will usually be in the OS page cache, so
+ * this measures CPU and copy overhead rather than disk throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileHashBenchmark {
+
+    @Param({"1048576", "268435456"}) // 1 MiB, 256 MiB
+    public int size;
+
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        this.file = Files.createTempFile("scrapi-bench", ".bin");
+        byte[] chunk = Bytes.random(1024 * 1024);
+        try (var out = Files.newOutputStream(this.file)) {
+            for (int written = 0; written < this.size; written += chunk.length) {
+                out.write(chunk, 0, Math.min(chunk.length, this.size - written));
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.file);
+    }
+
+    @Benchmark
+    public byte[] path() {
+        return HashAlgorithm.SHA_256.get().apply(this.file).get().octets();
+    }
+
+    @Benchmark
+    public byte[] inputStream() throws IOException {
+        try (InputStream in = Files.newInputStream(this.file)) {
+            return HashAlgorithm.SHA_256.get().apply(in).get().octets();
+        }
+    }
+
+    @Benchmark
+    public byte[] jcaReadLoop() throws Exception { // baseline
+        MessageDigest md = MessageDigest.getInstance("SHA-256");
+        byte[] buf = new byte[8192];
+        try (InputStream in = Files.newInputStream(this.file)) {
+            int read;
+            while ((read = in.read(buf)) != -1) {
+                md.update(buf, 0, read);
+            }
+        }
+        return md.digest();
+    }
+}
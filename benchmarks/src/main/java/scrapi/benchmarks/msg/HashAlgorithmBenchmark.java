@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.benchmarks.msg;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import scrapi.msg.HashAlgorithm;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link HashAlgorithm#registry() HashAlgorithm} message digest throughput and latency, compared to direct use of
+ * a JCA {@code MessageDigest}.  Each operation creates a new hasher (or {@code MessageDigest}), applies the
+ * message and produces the digest.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashAlgorithmBenchmark {
+
+    @Param({"SHA-256", "SHA-512", "SHA3-256"})
+    public String alg;
+
+    private HashAlgorithm hashAlg;
+
+    @Setup
+    public void setup() {
+        this.hashAlg = HashAlgorithm.registry().forKey(this.alg);
+    }
+
+    private byte[] scrapi(Message m) {
+        return m.applyTo(this.hashAlg.get()).get().octets();
+    }
+
+    private byte[] jca(Message m) throws NoSuchAlgorithmException {
+        MessageDigest md = MessageDigest.getInstance(this.alg);
+        m.applyTo(md);
+        return md.digest();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public byte[] scrapiSingle(Message m) {
+        return scrapi(m);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public byte[] jcaSingle(Message m) throws NoSuchAlgorithmException {
+        return jca(m);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public byte[] scrapiMulti(Message m) {
+        return scrapi(m);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public byte[] jcaMulti(Message m) throws NoSuchAlgorithmException {
+        return jca(m);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.benchmarks.msg;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scrapi.impl.jca.JcaTemplate;
+import scrapi.msg.HashAlgorithm;
+import scrapi.util.Bytes;
+
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of hashing a small message with a newly created hasher via
+ * {@link HashAlgorithm#get()} (which clones a pristine prototype {@code MessageDigest}) against the previous
+ * approach of resolving a new {@code MessageDigest} through the JCA provider framework for every hasher.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HasherCreationBenchmark {
+
+    @Param({"SHA-256", "SHA-512", "SHA3-256"})
+    public String alg;
+
+    private HashAlgorithm hashAlg;
+    private byte[] message;
+
+    @Setup
+    public void setup() {
+        this.hashAlg = HashAlgorithm.registry().forKey(this.alg);
+        this.message = Bytes.random(16);
+    }
+
+    @Benchmark
+    public byte[] prototypeClone() {
+        return this.hashAlg.get().apply(this.message).get().octets();
+    }
+
+    @Benchmark
+    public byte[] templateLookup() { // the pre-prototype path
+        MessageDigest md = new JcaTemplate(this.alg, null).withMessageDigest(d -> d);
+        return md.digest(this.message);
+    }
+
+    @Benchmark
+    public byte[] jcaGetInstance() throws Exception { // baseline
+        return MessageDigest.getInstance(this.alg).digest(this.message);
+    }
+}
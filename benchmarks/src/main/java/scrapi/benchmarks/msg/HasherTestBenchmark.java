@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.benchmarks.msg;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scrapi.msg.Digest;
+import scrapi.msg.HashAlgorithm;
+import scrapi.msg.Hasher;
+import scrapi.msg.HmacAlgorithm;
+import scrapi.util.Bytes;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allocation benchmark for {@link Hasher#test(byte[]) Hasher.test} verification of a short message with a
+ * long-lived, reused hasher.  Run with the gc profiler (always enabled by {@code BenchmarkRunner}) and inspect
+ * {@code gc.alloc.rate.norm}: the {@code test*} benchmarks are expected to report 0 B/op for hash algorithms.
+ * HMAC algorithms report only the digest array allocated internally by the JCA provider's {@code Mac.doFinal}
+ * (e.g. 48 B/op for HmacSHA256 on SunJCE), which scrapi cannot avoid.  The {@code getOctets} benchmark is the
+ * previous implementation ({@code get().octets()} followed by {@code MessageDigest.isEqual}) for comparison.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HasherTestBenchmark {
+
+    @Param({"SHA-256", "HmacSHA256"})
+    public String alg;
+
+    private Hasher<? extends Digest<?>> hasher;
+    private byte[] message;
+    private byte[] expected;
+    private byte[] expectedWithinRecord; // e.g. a MAC embedded in a larger inbound record
+    private ByteBuffer expectedDirect;
+
+    @Setup
+    public void setup() {
+        if (this.alg.startsWith("Hmac")) {
+            HmacAlgorithm hmacAlg = HmacAlgorithm.registry().forKey(this.alg);
+            this.hasher = hmacAlg.with(hmacAlg.keygen().get());
+        } else {
+            this.hasher = HashAlgorithm.registry().forKey(this.alg).get();
+        }
+        this.message = Bytes.random(64);
+        this.expected = this.hasher.apply(this.message).get().octets();
+        this.expectedWithinRecord = Bytes.concat(Bytes.random(16), this.expected, Bytes.random(16));
+        this.expectedDirect = ByteBuffer.allocateDirect(this.expected.length).put(this.expected).flip();
+    }
+
+    @Benchmark
+    public boolean getOctets() { // baseline
+        return MessageDigest.isEqual(this.hasher.apply(this.message).get().octets(), this.expected);
+    }
+
+    @Benchmark
+    public boolean testBytes() {
+        return this.hasher.apply(this.message).test(this.expected);
+    }
+
+    @Benchmark
+    public boolean testRange() {
+        return this.hasher.apply(this.message).test(this.expectedWithinRecord, 16, this.expected.length);
+    }
+
+    @Benchmark
+    public boolean testDirectBuffer() {
+        this.expectedDirect.clear();
+        return this.hasher.apply(this.message).test(this.expectedDirect);
+    }
+}
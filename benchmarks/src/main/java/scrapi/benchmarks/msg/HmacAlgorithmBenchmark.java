@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.benchmarks.msg;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import scrapi.key.OctetSecretKey;
+import scrapi.msg.Digest;
+import scrapi.msg.Hasher;
+import scrapi.msg.HmacAlgorithm;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * {@link HmacAlgorithm#registry() HmacAlgorithm} throughput and latency, compared to direct use of a JCA
+ * {@code Mac}.  Each operation creates a new keyed hasher (or initializes a new {@code Mac}), applies the
+ * message and produces the digest.  The {@code prepared} variants instead obtain hashers from a key prepared once
+ * via {@link HmacAlgorithm#prepare(OctetSecretKey)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HmacAlgorithmBenchmark {
+
+    @Param({"HmacSHA256", "HmacSHA512"})
+    public String alg;
+
+    private HmacAlgorithm hmacAlg;
+    private OctetSecretKey key;
+    private SecretKey jcaKey;
+    private Supplier<Hasher<Digest<HmacAlgorithm>>> prepared;
+
+    @Setup
+    public void setup() {
+        this.hmacAlg = HmacAlgorithm.registry().forKey(this.alg);
+        this.key = this.hmacAlg.keygen().get();
+        this.jcaKey = this.key.toJcaKey();
+        this.prepared = this.hmacAlg.prepare(this.key);
+    }
+
+    private byte[] scrapi(Message m) {
+        return m.applyTo(this.hmacAlg.with(this.key)).get().octets();
+    }
+
+    private byte[] prepared(Message m) {
+        return m.applyTo(this.prepared.get()).get().octets();
+    }
+
+    private byte[] jca(Message m) throws GeneralSecurityException {
+        Mac mac = Mac.getInstance(this.alg);
+        mac.init(this.jcaKey);
+        m.applyTo(mac);
+        return mac.doFinal();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public byte[] scrapiSingle(Message m) {
+        return scrapi(m);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public byte[] jcaSingle(Message m) throws GeneralSecurityException {
+        return jca(m);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public byte[] scrapiMulti(Message m) {
+        return scrapi(m);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public byte[] jcaMulti(Message m) throws GeneralSecurityException {
+        return jca(m);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public byte[] preparedSingle(Message m) {
+        return prepared(m);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public byte[] preparedMulti(Message m) {
+        return prepared(m);
+    }
+}
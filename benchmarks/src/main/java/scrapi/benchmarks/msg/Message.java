@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.benchmarks.msg;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import scrapi.msg.MessageConsumer;
+
+import javax.crypto.Mac;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.security.SignatureException;
+
+/**
+ * Per-thread view of the shared {@link MessageData} payload.  Each thread owns its own {@code ByteBuffer}
+ * duplicate so buffer positions never interfere across threads, and rewinding it per operation does not
+ * allocate, keeping the gc profiler's {@code gc.alloc.rate.norm} attributable to the code under test.
+ */
+@State(Scope.Thread)
+public class Message {
+
+    private byte[] bytes;
+    private ByteBuffer buffer; // null when the input kind is BYTES
+
+    @Setup
+    public void setup(MessageData data) {
+        this.bytes = data.bytes;
+        this.buffer = data.buffer != null ? data.buffer.duplicate() : null;
+    }
+
+    private ByteBuffer rewound() {
+        this.buffer.clear(); // position = 0, limit = capacity
+        return this.buffer;
+    }
+
+    public <T extends MessageConsumer<T>> T applyTo(T consumer) {
+        return this.buffer == null ? consumer.apply(this.bytes) : consumer.apply(rewound());
+    }
+
+    public void applyTo(MessageDigest md) {
+        if (this.buffer == null) {
+            md.update(this.bytes);
+        } else {
+            md.update(rewound());
+        }
+    }
+
+    public void applyTo(Mac mac) {
+        if (this.buffer == null) {
+            mac.update(this.bytes);
+        } else {
+            mac.update(rewound());
+        }
+    }
+
+    public void applyTo(Signature sig) throws SignatureException {
+        if (this.buffer == null) {
+            sig.update(this.bytes);
+        } else {
+            sig.update(rewound());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.benchmarks.msg;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import scrapi.util.Bytes;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Benchmark-wide message payload, shared (read-only) by all benchmark threads so that large messages are only
+ * allocated once per trial.  Threads read the payload via their own {@link Message} cursor.
+ */
+@State(Scope.Benchmark)
+public class MessageData {
+
+    /**
+     * How the message is presented to the consumer under test.
+     */
+    public enum Input {
+        BYTES, HEAP, DIRECT
+    }
+
+    @Param({"16", "1024", "65536", "1048576", "67108864"}) // 16 B to 64 MiB
+    public int size;
+
+    @Param({"BYTES", "HEAP", "DIRECT"})
+    public Input input;
+
+    byte[] bytes;
+    ByteBuffer buffer;
+
+    @Setup
+    public void setup() {
+        this.bytes = Bytes.random(this.size);
+        switch (this.input) {
+            case HEAP -> this.buffer = ByteBuffer.wrap(this.bytes);
+            case DIRECT -> this.buffer = ByteBuffer.allocateDirect(this.size).put(this.bytes).flip();
+            default -> this.buffer = null;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.benchmarks.msg;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import scrapi.key.Password;
+import scrapi.msg.PbeMacAlgorithm;
+import scrapi.util.Bytes;
+import scrapi.util.Strings;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.PBEParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PbeMacAlgorithm#registry() PbeMacAlgorithm} throughput and latency, compared to direct use of a JCA
+ * PBE {@code Mac}.  A fixed salt is used for both so that salt generation does not skew the comparison; the
+ * {@code cost} (iteration count) is expected to dominate for all but the largest messages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PbeMacAlgorithmBenchmark {
+
+    private static final char[] PASSWORD = "correct horse battery staple".toCharArray();
+
+    @Param({"PBEWithHmacSHA256", "PBEWithHmacSHA512"})
+    public String alg;
+
+    @Param({"1024", "100000"})
+    public int cost;
+
+    private PbeMacAlgorithm pbeAlg;
+    private Password password;
+    private byte[] salt;
+    private SecretKeySpec jcaKey;
+
+    @Setup
+    public void setup() {
+        this.pbeAlg = PbeMacAlgorithm.registry().forKey(this.alg);
+        this.password = Password.of(PASSWORD);
+        this.salt = Bytes.random(this.pbeAlg.size().bytes());
+        this.jcaKey = new SecretKeySpec(Strings.utf8(new String(PASSWORD)), "PBE");
+    }
+
+    private byte[] scrapi(Message m) {
+        return m.applyTo(this.pbeAlg.with(p -> p.key(this.password).salt(this.salt).cost(this.cost))).get().octets();
+    }
+
+    private byte[] jca(Message m) throws GeneralSecurityException {
+        Mac mac = Mac.getInstance(this.alg);
+        mac.init(this.jcaKey, new PBEParameterSpec(this.salt, this.cost));
+        m.applyTo(mac);
+        return mac.doFinal();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public byte[] scrapiSingle(Message m) {
+        return scrapi(m);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public byte[] jcaSingle(Message m) throws GeneralSecurityException {
+        return jca(m);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public byte[] scrapiMulti(Message m) {
+        return scrapi(m);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public byte[] jcaMulti(Message m) throws GeneralSecurityException {
+        return jca(m);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.benchmarks.msg;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import scrapi.key.RsaPrivateKey;
+import scrapi.key.RsaPublicKey;
+import scrapi.msg.RsaSignatureAlgorithm;
+
+import java.security.GeneralSecurityException;
+import java.security.Signature;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RsaSignatureAlgorithm#registry() RsaSignatureAlgorithm} signing and verification throughput and latency,
+ * compared to direct use of a JCA {@code Signature}.  Keys use the algorithm's default key generator size and are
+ * generated once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RsaSignatureAlgorithmBenchmark {
+
+    @Param({"SHA256withRSA", "SHA512withRSA"})
+    public String alg;
+
+    private RsaSignatureAlgorithm<?, ?, ?> rsaAlg;
+    private RsaPrivateKey priv;
+    private RsaPublicKey pub;
+    private byte[] signature; // precomputed for the verification benchmarks
+
+    @Setup
+    public void setup(MessageData data) throws GeneralSecurityException {
+        this.rsaAlg = RsaSignatureAlgorithm.registry().forKey(this.alg);
+        this.priv = this.rsaAlg.keygen().get();
+        this.pub = this.priv.publicKey();
+        Signature sig = Signature.getInstance(this.alg);
+        sig.initSign(this.priv.toJcaKey());
+        sig.update(data.bytes);
+        this.signature = sig.sign();
+    }
+
+    private byte[] scrapiSign(Message m) {
+        return m.applyTo(this.rsaAlg.with(this.priv)).get().octets();
+    }
+
+    private byte[] jcaSign(Message m) throws GeneralSecurityException {
+        Signature sig = Signature.getInstance(this.alg);
+        sig.initSign(this.priv.toJcaKey());
+        m.applyTo(sig);
+        return sig.sign();
+    }
+
+    private boolean scrapiVerify(Message m) {
+        return m.applyTo(this.rsaAlg.with(this.pub)).test(this.signature);
+    }
+
+    private boolean jcaVerify(Message m) throws GeneralSecurityException {
+        Signature sig = Signature.getInstance(this.alg);
+        sig.initVerify(this.pub.toJcaKey());
+        m.applyTo(sig);
+        return sig.verify(this.signature);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public byte[] scrapiSignSingle(Message m) {
+        return scrapiSign(m);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public byte[] jcaSignSingle(Message m) throws GeneralSecurityException {
+        return jcaSign(m);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public byte[] scrapiSignMulti(Message m) {
+        return scrapiSign(m);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public byte[] jcaSignMulti(Message m) throws GeneralSecurityException {
+        return jcaSign(m);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean scrapiVerifySingle(Message m) {
+        return scrapiVerify(m);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean jcaVerifySingle(Message m) throws GeneralSecurityException {
+        return jcaVerify(m);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean scrapiVerifyMulti(Message m) {
+        return scrapiVerify(m);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean jcaVerifyMulti(Message m) throws GeneralSecurityException {
+        return jcaVerify(m);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.benchmarks.msg;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scrapi.alg.Size;
+import scrapi.msg.HashAlgorithm;
+import scrapi.util.Bytes;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hashing a single large message with a {@link HashAlgorithm#tree(Size) tree hash} compared to its sequential
+ * leaf algorithm.  Tree hash throughput should scale with the number of available processors (more precisely,
+ * the common {@code ForkJoinPool} parallelism, adjustable via
+ * {@code -Djava.util.concurrent.ForkJoinPool.common.parallelism}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TreeHashBenchmark {
+
+    @Param({"SHA-256", "SHA3-256"})
+    public String alg;
+
+    @Param({"65536", "1048576"}) // 64 KiB, 1 MiB
+    public int leafSize;
+
+    @Param({"268435456"}) // 256 MiB
+    public int size;
+
+    private HashAlgorithm sequential;
+    private HashAlgorithm tree;
+    private byte[] message;
+
+    @Setup
+    public void setup() {
+        this.sequential = HashAlgorithm.registry().forKey(this.alg);
+        this.tree = this.sequential.tree(Size.bytes(this.leafSize));
+        this.message = Bytes.random(this.size);
+    }
+
+    @Benchmark
+    public byte[] sequential() {
+        return this.sequential.get().apply(this.message).get().octets();
+    }
+
+    @Benchmark
+    public byte[] tree() {
+        return this.tree.get().apply(this.message).get().octets();
+    }
+}
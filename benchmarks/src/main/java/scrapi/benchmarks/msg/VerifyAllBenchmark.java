@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.benchmarks.msg;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scrapi.key.RsaPrivateKey;
+import scrapi.key.RsaPublicKey;
+import scrapi.msg.RsaSignatureAlgorithm;
+import scrapi.msg.SignatureAlgorithm.SignedMessage;
+import scrapi.util.Bytes;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verifying a batch of RSA signatures with
+ * {@link scrapi.msg.SignatureAlgorithm#verifyAll(List, boolean) verifyAll} compared to creating a verifier per
+ * message on a single thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VerifyAllBenchmark {
+
+    @Param({"1000", "10000"})
+    public int records;
+
+    @Param({"256"})
+    public int recordSize;
+
+    private final RsaSignatureAlgorithm<?, ?, ?> alg = RsaSignatureAlgorithm.RS256;
+    private List<SignedMessage<RsaPublicKey>> messages;
+
+    @Setup
+    public void setup() {
+        RsaPrivateKey priv = this.alg.keygen().get();
+        RsaPublicKey pub = priv.publicKey();
+        this.messages = new ArrayList<>(this.records);
+        for (int i = 0; i < this.records; i++) {
+            byte[] message = Bytes.random(this.recordSize);
+            byte[] signature = this.alg.with(priv).apply(message).get().octets();
+            this.messages.add(SignedMessage.of(pub, message, signature));
+        }
+    }
+
+    @Benchmark
+    public BitSet perRecord() { // baseline
+        BitSet results = new BitSet(this.records);
+        for (int i = 0; i < this.records; i++) {
+            SignedMessage<RsaPublicKey> m = this.messages.get(i);
+            results.set(i, this.alg.with(m.key()).apply(m.message()).test(m.signature()));
+        }
+        return results;
+    }
+
+    @Benchmark
+    public BitSet verifyAll() {
+        return this.alg.verifyAll(this.messages);
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.benchmarks.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import scrapi.util.Randoms;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contention benchmark for {@link Randoms#secureRandom()}, which stripes requests across independently seeded
+ * instances, and {@link Randoms#nextBytes(byte[], int, int)}, which additionally serves small requests from a
+ * per-thread buffer, compared to a single shared {@code SecureRandom} (the previous behavior).  The default
+ * {@code size} is that of a typical salt or nonce, where lock contention dominates the cost of generation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomsBenchmark {
+
+    @Param({"16", "256"})
+    public int size;
+
+    private SecureRandom shared;
+
+    @State(Scope.Thread)
+    public static class Buffer {
+        byte[] bytes;
+
+        @Setup
+        public void setup(RandomsBenchmark b) {
+            this.bytes = new byte[b.size];
+        }
+    }
+
+    @Setup
+    public void setup() {
+        this.shared = new SecureRandom();
+        this.shared.nextBytes(new byte[64]);
+    }
+
+    private static byte[] striped(Buffer b) {
+        Randoms.secureRandom().nextBytes(b.bytes);
+        return b.bytes;
+    }
+
+    private static byte[] reservoir(Buffer b) {
+        Randoms.nextBytes(b.bytes, 0, b.bytes.length);
+        return b.bytes;
+    }
+
+    private byte[] shared(Buffer b) {
+        this.shared.nextBytes(b.bytes);
+        return b.bytes;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public byte[] striped1(Buffer b) {
+        return striped(b);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public byte[] striped4(Buffer b) {
+        return striped(b);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public byte[] striped16(Buffer b) {
+        return striped(b);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public byte[] striped64(Buffer b) {
+        return striped(b);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public byte[] shared1(Buffer b) {
+        return shared(b);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public byte[] shared4(Buffer b) {
+        return shared(b);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public byte[] shared16(Buffer b) {
+        return shared(b);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public byte[] shared64(Buffer b) {
+        return shared(b);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public byte[] reservoir1(Buffer b) {
+        return reservoir(b);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public byte[] reservoir4(Buffer b) {
+        return reservoir(b);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public byte[] reservoir16(Buffer b) {
+        return reservoir(b);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public byte[] reservoir64(Buffer b) {
+        return reservoir(b);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl;
+
+import scrapi.impl.key.DefaultPassword;
+import scrapi.impl.key.DefaultRsaPrimeFactorBuilder;
+import scrapi.impl.msg.DefaultHashAlgorithmRegistry;
+import scrapi.impl.msg.DefaultHmacAlgorithmRegistry;
+import scrapi.impl.msg.DefaultPasswordMacService;
+import scrapi.impl.msg.DefaultPbeMacAlgorithmRegistry;
+import scrapi.impl.msg.DefaultPhcCodec;
+import scrapi.impl.msg.DefaultRsaSignatureAlgorithmRegistry;
+import scrapi.impl.msg.DefaultVerificationCache;
+import scrapi.key.Password;
+import scrapi.key.RsaPrimeFactor;
+import scrapi.lang.Registry;
+import scrapi.msg.HashAlgorithm;
+import scrapi.msg.HmacAlgorithm;
+import scrapi.msg.PasswordMacService;
+import scrapi.msg.PbeMacAlgorithm;
+import scrapi.msg.PhcCodec;
+import scrapi.msg.RsaSignatureAlgorithm;
+import scrapi.msg.VerificationCache;
+import scrapi.spi.Implementation;
+
+public final class DefaultImplementation implements Implementation {
+
+    @Override
+    public Registry<String, HashAlgorithm> hashAlgorithms() {
+        return new DefaultHashAlgorithmRegistry();
+    }
+
+    @Override
+    public Registry<String, HmacAlgorithm> hmacAlgorithms() {
+        return new DefaultHmacAlgorithmRegistry();
+    }
+
+    @Override
+    public Registry<String, PbeMacAlgorithm> pbeMacAlgorithms() {
+        return new DefaultPbeMacAlgorithmRegistry();
+    }
+
+    @Override
+    public Registry<String, RsaSignatureAlgorithm<?, ?, ?>> rsaSignatureAlgorithms() {
+        return new DefaultRsaSignatureAlgorithmRegistry();
+    }
+
+    @Override
+    public Password password(char[] chars) {
+        return new DefaultPassword(chars);
+    }
+
+    @Override
+    public PasswordMacService.Builder passwordMacServiceBuilder() {
+        return new DefaultPasswordMacService.Builder();
+    }
+
+    @Override
+    public PhcCodec phcCodec() {
+        return DefaultPhcCodec.INSTANCE;
+    }
+
+    @Override
+    public RsaPrimeFactor.Builder rsaPrimeFactorBuilder() {
+        return new DefaultRsaPrimeFactorBuilder();
+    }
+
+    @Override
+    public VerificationCache.Builder verificationCacheBuilder() {
+        return new DefaultVerificationCache.Builder();
+    }
+}
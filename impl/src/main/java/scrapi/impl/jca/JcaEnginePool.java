@@ -0,0 +1,224 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.jca;
+
+import scrapi.util.Assert;
+
+import java.security.Provider;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An opt-in pool of reset, ready-to-use JCA engine instances (e.g. {@code MessageDigest}, {@code Mac} and
+ * {@code Signature}) keyed by JCA algorithm name and {@link Provider}.
+ *
+ * <p>Obtaining a JCA engine via {@code getInstance} requires a provider service lookup and reflective SPI
+ * construction, which can be costly for high-volume hashing, MAC or signature workloads.  When enabled, engines
+ * returned via {@link JcaTemplate}'s {@code release} methods are retained here and handed out again on the next
+ * {@code borrow} call for the same algorithm name and provider instead of creating a new engine.</p>
+ *
+ * <p>Each algorithm name/provider combination is backed by a number of small, bounded stripes (one per available
+ * processor) to minimize contention.  A thread only ever polls and offers engines in its own stripe; if a stripe is
+ * full when an engine is returned, the engine is discarded and counted as an {@link #evictions() eviction}.</p>
+ *
+ * <p>Pooling is disabled by default.  It may be enabled by setting the
+ * {@code scrapi.jca.pool.enabled} system property to {@code true} before this class is initialized, or at any time
+ * via {@link #setEnabled(boolean)}.  The number of engines retained per stripe may be changed via the
+ * {@code scrapi.jca.pool.capacity} system property (default {@code 2}).</p>
+ *
+ * <p><b>Security Note:</b> pooled {@code Mac} and {@code Signature} engines are reset but may still
+ * retain state derived from the key they were last initialized with.  Borrowers always re-initialize such engines
+ * with their own key before use, so this state is never observable, but it does remain in memory until the engine
+ * is reused or discarded.</p>
+ */
+public final class JcaEnginePool {
+
+    public static final String ENABLED_PROPERTY_NAME = "scrapi.jca.pool.enabled";
+    public static final String CAPACITY_PROPERTY_NAME = "scrapi.jca.pool.capacity";
+    private static final int DEFAULT_CAPACITY = 2;
+
+    public static final JcaEnginePool INSTANCE = new JcaEnginePool(
+            Boolean.getBoolean(ENABLED_PROPERTY_NAME),
+            Runtime.getRuntime().availableProcessors(),
+            Integer.getInteger(CAPACITY_PROPERTY_NAME, DEFAULT_CAPACITY)
+    );
+
+    private final ConcurrentMap<PoolKey, Stripes> POOLS = new ConcurrentHashMap<>();
+    private final int stripeCount;
+    private final int stripeCapacity;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private volatile boolean enabled;
+
+    JcaEnginePool(boolean enabled, int stripeCount, int stripeCapacity) {
+        this.enabled = enabled;
+        this.stripeCount = Assert.gt(stripeCount, 0, "stripeCount must be > 0");
+        this.stripeCapacity = Assert.gt(stripeCapacity, 0, "stripeCapacity must be > 0");
+    }
+
+    /**
+     * Returns {@code true} if engines are pooled, {@code false} otherwise.
+     *
+     * @return {@code true} if engines are pooled, {@code false} otherwise.
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Enables or disables pooling.  Disabling the pool discards all currently pooled engines.
+     *
+     * @param enabled whether engines should be pooled.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            POOLS.clear();
+        }
+    }
+
+    /**
+     * Returns the number of borrow requests satisfied by a pooled engine.
+     *
+     * @return the number of borrow requests satisfied by a pooled engine.
+     */
+    public long hits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Returns the number of borrow requests that required a new engine because none was pooled.
+     *
+     * @return the number of borrow requests that required a new engine because none was pooled.
+     */
+    public long misses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Returns the number of released engines that were discarded because the pool was full.
+     *
+     * @return the number of released engines that were discarded because the pool was full.
+     */
+    public long evictions() {
+        return this.evictions.sum();
+    }
+
+    <T> T poll(Class<T> type, String jcaName, Provider provider) {
+        if (!this.enabled) return null;
+        Stripes stripes = POOLS.get(new PoolKey(type, jcaName, provider));
+        Object engine = stripes != null ? stripes.poll() : null;
+        if (engine == null) {
+            this.misses.increment();
+            return null;
+        }
+        this.hits.increment();
+        return type.cast(engine);
+    }
+
+    boolean offer(Class<?> type, String jcaName, Provider provider, Object engine) {
+        if (!this.enabled || engine == null) return false;
+        Stripes stripes = POOLS.computeIfAbsent(new PoolKey(type, jcaName, provider),
+                k -> new Stripes(this.stripeCount, this.stripeCapacity));
+        if (!stripes.offer(engine)) {
+            this.evictions.increment();
+        }
+        return true; // the caller relinquishes ownership either way
+    }
+
+    @Override
+    public String toString() {
+        return "JcaEnginePool{enabled=" + this.enabled + ", hits=" + hits() + ", misses=" + misses() +
+                ", evictions=" + evictions() + "}";
+    }
+
+    private static final class PoolKey {
+
+        private final Class<?> type;
+        private final String jcaName;
+        private final Provider provider;
+        private final int hashCode;
+
+        PoolKey(Class<?> type, String jcaName, Provider provider) {
+            this.type = type;
+            this.jcaName = jcaName;
+            this.provider = provider;
+            // Provider extends Properties, so its equals/hashCode implementations inspect all of its entries,
+            // which is expensive.  Provider instances are effectively singletons, so identity is sufficient:
+            this.hashCode = (31 * type.hashCode() + this.jcaName.hashCode()) * 31 + System.identityHashCode(provider);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) return true;
+            return obj instanceof PoolKey other &&
+                    this.type == other.type &&
+                    this.provider == other.provider &&
+                    this.jcaName.equals(other.jcaName);
+        }
+    }
+
+    /**
+     * Lock-free, bounded slots partitioned into per-thread stripes.
+     */
+    private static final class Stripes {
+
+        private final AtomicReferenceArray<Object> slots;
+        private final int stripeCount;
+        private final int capacity;
+
+        Stripes(int stripeCount, int capacity) {
+            this.stripeCount = stripeCount;
+            this.capacity = capacity;
+            this.slots = new AtomicReferenceArray<>(stripeCount * capacity);
+        }
+
+        private int start() {
+            int h = Thread.currentThread().hashCode();
+            h ^= (h >>> 16);
+            return Math.floorMod(h, this.stripeCount) * this.capacity;
+        }
+
+        Object poll() {
+            int start = start();
+            for (int i = start; i < start + this.capacity; i++) {
+                Object o = this.slots.get(i);
+                if (o != null && this.slots.compareAndSet(i, o, null)) {
+                    return o;
+                }
+            }
+            return null;
+        }
+
+        boolean offer(Object engine) {
+            int start = start();
+            for (int i = start; i < start + this.capacity; i++) {
+                if (this.slots.get(i) == null && this.slots.compareAndSet(i, null, engine)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -186,6 +186,90 @@ public class JcaTemplate {
         return execute(Mac.class, fn);
     }
 
+    private <T> T borrow(final Class<T> clazz, final CheckedFunction<T, T> fn) throws SecurityException {
+        return execute(clazz, () -> {
+            T instance = JcaEnginePool.INSTANCE.poll(clazz, this.jcaName, this.provider);
+            return instance != null ? fn.apply(instance) : execute(clazz, fn, this.provider);
+        });
+    }
+
+    /**
+     * Returns a {@code MessageDigest} from the {@link JcaEnginePool} if pooling is enabled and one is available,
+     * otherwise a new instance.  Callers should {@link #release(MessageDigest) release} the instance when
+     * it is no longer needed.
+     *
+     * @return a {@code MessageDigest} ready for use.
+     * @throws SecurityException if a new instance could not be obtained.
+     */
+    public MessageDigest borrowMessageDigest() throws SecurityException {
+        return borrow(MessageDigest.class, md -> md);
+    }
+
+    /**
+     * Returns a {@code Mac} from the {@link JcaEnginePool} if pooling is enabled and one is available,
+     * otherwise a new instance, initialized by the specified function in either case.  Callers should
+     * {@link #release(Mac) release} the instance when it is no longer needed.
+     *
+     * @param init the function that initializes the {@code Mac}, usually with a key
+     * @return the initialized {@code Mac}
+     * @throws SecurityException if a new instance could not be obtained or initialized.
+     */
+    public Mac borrowMac(CheckedFunction<Mac, Mac> init) throws SecurityException {
+        return borrow(Mac.class, init);
+    }
+
+    /**
+     * Returns a {@code Signature} from the {@link JcaEnginePool} if pooling is enabled and one is available,
+     * otherwise a new instance, initialized by the specified function in either case.  Callers should
+     * {@link #release(Signature) release} the instance when it is no longer needed.
+     *
+     * @param init the function that initializes the {@code Signature} for signing or verification
+     * @return the initialized {@code Signature}
+     * @throws SecurityException if a new instance could not be obtained or initialized.
+     */
+    public Signature borrowSignature(CheckedFunction<Signature, Signature> init) throws SecurityException {
+        return borrow(Signature.class, init);
+    }
+
+    /**
+     * Resets and returns the specified {@code MessageDigest} to the {@link JcaEnginePool} if pooling is enabled.
+     *
+     * @param md the digest to release
+     * @return {@code true} if the pool assumed ownership of the instance and the caller must no longer use it,
+     * {@code false} if pooling is disabled and the caller may continue to use it.
+     */
+    public boolean release(MessageDigest md) {
+        if (md == null || !JcaEnginePool.INSTANCE.isEnabled()) return false;
+        md.reset();
+        return JcaEnginePool.INSTANCE.offer(MessageDigest.class, this.jcaName, this.provider, md);
+    }
+
+    /**
+     * Resets and returns the specified {@code Mac} to the {@link JcaEnginePool} if pooling is enabled.
+     *
+     * @param mac the mac to release
+     * @return {@code true} if the pool assumed ownership of the instance and the caller must no longer use it,
+     * {@code false} if pooling is disabled and the caller may continue to use it.
+     */
+    public boolean release(Mac mac) {
+        if (mac == null || !JcaEnginePool.INSTANCE.isEnabled()) return false;
+        mac.reset();
+        return JcaEnginePool.INSTANCE.offer(Mac.class, this.jcaName, this.provider, mac);
+    }
+
+    /**
+     * Returns the specified {@code Signature} to the {@link JcaEnginePool} if pooling is enabled.  The instance
+     * is expected to have just completed a {@code sign} or {@code verify} call, which resets it.
+     *
+     * @param sig the signature to release
+     * @return {@code true} if the pool assumed ownership of the instance and the caller must no longer use it,
+     * {@code false} if pooling is disabled and the caller may continue to use it.
+     */
+    public boolean release(Signature sig) {
+        if (sig == null || !JcaEnginePool.INSTANCE.isEnabled()) return false;
+        return JcaEnginePool.INSTANCE.offer(Signature.class, this.jcaName, this.provider, sig);
+    }
+
     public <R> R withAlgorithmParameters(CheckedFunction<AlgorithmParameters, R> fn) throws SecurityException {
         return execute(AlgorithmParameters.class, fn);
     }
@@ -40,7 +40,11 @@ public class DefaultRsaPrivateKeyGenerator extends AbstractKeyGenerator<RsaPriva
     @Override
     public RsaPrivateKey get() {
         Size size = resolveSize();
-        KeyPair pair = jca().generateKeyPair(size.bits());
+        // A custom provider or random must be honored, so only keys from the defaults may be pooled:
+        KeyPair pair = this.provider == null && this.random == null ? RsaKeyPool.INSTANCE.take(size.bits()) : null;
+        if (pair == null) {
+            pair = jca().generateKeyPair(size.bits());
+        }
         RSAPublicKey jcaPub = Assert.isInstance(RSAPublicKey.class, pair.getPublic(), DefaultRsaPublicKey.JCA_PUB_TYPE_MSG);
         RsaPublicKey pub = new DefaultRsaPublicKey(jcaPub);
         PrivateKey jcaPriv = Assert.notNull(pair.getPrivate(), "RSA KeyPair private key cannot be null.");
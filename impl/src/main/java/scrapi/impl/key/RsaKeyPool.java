@@ -0,0 +1,262 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.key;
+
+import scrapi.impl.jca.JcaTemplate;
+import scrapi.util.Assert;
+
+import java.security.KeyPair;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An opt-in pool of pre-generated RSA key pairs, keyed by modulus size, that lets
+ * {@link DefaultRsaPrivateKeyGenerator#get()} return immediately instead of generating a key pair synchronously,
+ * which can take hundreds of milliseconds for 3072-bit keys (with much longer tails).
+ *
+ * <p>A standard modulus size (2048, 3072 or 4096 bits) is pooled once a key of that size is first requested, and
+ * any modulus size is pooled once {@link #prefill(int)} is called for it.  Other sizes are never pooled
+ * implicitly, so that a single unusual request cannot cause large keys to be generated and held in memory
+ * indefinitely.  Once a size is pooled, low-priority daemon workers keep up to {@link #capacity()} key pairs of
+ * that size ready, generating a replacement whenever one is taken.  Each pooled key pair is handed out exactly once: taking it
+ * removes the pool's only reference to it.  If no key pair is ready, the request
+ * {@link #fallbacks() falls back} to synchronous generation.</p>
+ *
+ * <p>Only generators that use the default JCA {@code Provider} and {@code SecureRandom} use the pool; a generator
+ * configured with either always generates synchronously, so that the caller's choice is honored.</p>
+ *
+ * <p>Pooling is disabled by default.  It may be enabled by setting the {@code scrapi.rsa.pool.enabled} system
+ * property to {@code true} before this class is initialized, or at any time via {@link #setEnabled(boolean)}.  The
+ * number of key pairs kept per modulus size may be set via the {@code scrapi.rsa.pool.capacity} system property
+ * (default {@code 4}) or {@link #setCapacity(int)}.</p>
+ *
+ * <p><b>Security Note:</b> pooled private keys reside in memory until they are taken (or pooling is disabled),
+ * which is longer than a key generated on demand would before its first use.</p>
+ */
+public final class RsaKeyPool {
+
+    public static final String ENABLED_PROPERTY_NAME = "scrapi.rsa.pool.enabled";
+    public static final String CAPACITY_PROPERTY_NAME = "scrapi.rsa.pool.capacity";
+    private static final int DEFAULT_CAPACITY = 4;
+    private static final long WORKER_KEEP_ALIVE_SECONDS = 30;
+    static final Set<Integer> STANDARD_SIZES = Set.of(2048, 3072, 4096); // pooled on first request
+    private static final AtomicInteger POOL_COUNT = new AtomicInteger(); // must be initialized before INSTANCE
+
+    public static final RsaKeyPool INSTANCE = new RsaKeyPool(
+            Boolean.getBoolean(ENABLED_PROPERTY_NAME),
+            Integer.getInteger(CAPACITY_PROPERTY_NAME, DEFAULT_CAPACITY),
+            Math.max(1, Runtime.getRuntime().availableProcessors() / 4)
+    );
+
+    private final ConcurrentMap<Integer, Bucket> buckets = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor workers;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    private volatile boolean enabled;
+    private volatile int capacity;
+
+    RsaKeyPool(boolean enabled, int capacity, int workers) {
+        this.enabled = enabled;
+        this.capacity = Assert.gt(capacity, 0, "capacity must be > 0");
+        Assert.gt(workers, 0, "workers must be > 0");
+        this.workers = new ThreadPoolExecutor(workers, workers, WORKER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new WorkerThreadFactory(POOL_COUNT.incrementAndGet()));
+        this.workers.allowCoreThreadTimeOut(true); // don't retain idle threads once all pools are full
+    }
+
+    /**
+     * Returns {@code true} if key pairs are pooled, {@code false} otherwise.
+     *
+     * @return {@code true} if key pairs are pooled, {@code false} otherwise.
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Enables or disables pooling.  Disabling the pool discards all currently pooled key pairs.
+     *
+     * @param enabled whether key pairs should be pooled.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            this.buckets.clear();
+        }
+    }
+
+    /**
+     * Returns the number of key pairs kept ready for each pooled modulus size.
+     *
+     * @return the number of key pairs kept ready for each pooled modulus size.
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Sets the number of key pairs kept ready for each pooled modulus size.  Lowering the capacity does not discard
+     * key pairs that are already pooled.
+     *
+     * @param capacity the number of key pairs kept ready for each pooled modulus size, must be &gt; 0
+     */
+    public void setCapacity(int capacity) {
+        this.capacity = Assert.gt(capacity, 0, "capacity must be > 0");
+        this.buckets.values().forEach(this::refill);
+    }
+
+    /**
+     * Starts pooling key pairs with the specified modulus size, if not already, so that they are ready before
+     * the first request.  This is the only way to pool sizes other than 2048, 3072 and 4096 bits.  Has no effect
+     * if pooling is disabled.
+     *
+     * @param bits the RSA modulus size in bits
+     */
+    public void prefill(int bits) {
+        if (!this.enabled) return;
+        refill(bucket(bits));
+    }
+
+    /**
+     * Returns the number of key pairs with the specified modulus size that are ready to be taken.
+     *
+     * @param bits the RSA modulus size in bits
+     * @return the number of key pairs with the specified modulus size that are ready to be taken.
+     */
+    public int depth(int bits) {
+        Bucket bucket = this.buckets.get(bits);
+        return bucket != null ? bucket.depth.get() : 0;
+    }
+
+    /**
+     * Returns the number of key requests satisfied by a pooled key pair.
+     *
+     * @return the number of key requests satisfied by a pooled key pair.
+     */
+    public long hits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Returns the number of key requests that generated a key pair synchronously because none was pooled.
+     *
+     * @return the number of key requests that generated a key pair synchronously because none was pooled.
+     */
+    public long fallbacks() {
+        return this.fallbacks.sum();
+    }
+
+    /**
+     * Removes and returns a pooled key pair with the specified modulus size, or returns {@code null} if pooling is
+     * disabled or none is ready, in which case the caller must generate one.  Either way, a replacement is
+     * scheduled for generation if pooling is enabled and the size is pooled.
+     */
+    KeyPair take(int bits) {
+        if (!this.enabled) return null;
+        Bucket bucket = STANDARD_SIZES.contains(bits) ? bucket(bits) : this.buckets.get(bits);
+        if (bucket == null) { // non-standard size that was never prefilled
+            this.fallbacks.increment();
+            return null;
+        }
+        KeyPair pair = bucket.keys.poll();
+        if (pair != null) {
+            bucket.depth.decrementAndGet();
+            this.hits.increment();
+        } else {
+            this.fallbacks.increment();
+        }
+        refill(bucket);
+        return pair;
+    }
+
+    private Bucket bucket(int bits) {
+        return this.buckets.computeIfAbsent(bits, Bucket::new);
+    }
+
+    private void refill(Bucket bucket) {
+        while (this.enabled) {
+            int pending = bucket.pending.get();
+            if (bucket.depth.get() + pending >= this.capacity) return;
+            if (bucket.pending.compareAndSet(pending, pending + 1)) {
+                try {
+                    this.workers.execute(() -> generate(bucket));
+                } catch (RejectedExecutionException e) { // not expected with an unbounded queue
+                    bucket.pending.decrementAndGet();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void generate(Bucket bucket) {
+        try {
+            if (!this.enabled || this.buckets.get(bucket.bits) != bucket) return; // disabled since scheduled
+            KeyPair pair = new JcaTemplate(AbstractRsaKey.JCA_ALG_NAME, null).generateKeyPair(bucket.bits);
+            bucket.keys.offer(pair);
+            bucket.depth.incrementAndGet();
+        } catch (RuntimeException ignored) {
+            // a request will fall back to synchronous generation, which reports the failure to the caller
+        } finally {
+            bucket.pending.decrementAndGet();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RsaKeyPool{enabled=" + this.enabled + ", capacity=" + this.capacity + ", hits=" + hits() +
+                ", fallbacks=" + fallbacks() + "}";
+    }
+
+    private static final class Bucket {
+
+        private final int bits;
+        private final Queue<KeyPair> keys = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger depth = new AtomicInteger(); // keys.size() is O(n)
+        private final AtomicInteger pending = new AtomicInteger(); // scheduled or in-progress generations
+
+        private Bucket(int bits) {
+            this.bits = bits;
+        }
+    }
+
+    private static final class WorkerThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private WorkerThreadFactory(int pool) {
+            this.prefix = "scrapi-rsa-keygen-" + pool + "-";
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, this.prefix + this.count.incrementAndGet());
+            t.setDaemon(true); // never prevent JVM shutdown
+            t.setPriority(Thread.MIN_PRIORITY); // yield to request threads
+            return t;
+        }
+    }
+}
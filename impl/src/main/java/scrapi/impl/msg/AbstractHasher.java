@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.msg;
+
+import scrapi.msg.Digest;
+import scrapi.msg.Hasher;
+import scrapi.util.Assert;
+import scrapi.util.Bytes;
+
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Arrays;
+import java.util.Objects;
+
+abstract class AbstractHasher<D extends Digest<?>> extends AbstractMessageConsumer<Hasher<D>> implements Hasher<D> {
+
+    protected final int DIGEST_LENGTH; // in bytes
+    private byte[] scratch; // lazily created, reused for direct/read-only ByteBuffer output
+
+    protected AbstractHasher(int digestLength) {
+        this.DIGEST_LENGTH = Assert.gt(digestLength, 0, "Digest length must be greater than zero.");
+    }
+
+    protected final byte[] scratch() {
+        if (this.scratch == null) {
+            this.scratch = new byte[this.DIGEST_LENGTH];
+        }
+        return this.scratch;
+    }
+
+    /**
+     * Completes the digest computation, writing exactly {@link #DIGEST_LENGTH} bytes to {@code out} starting at
+     * {@code offset}, and resets this hasher.  The output range has already been validated.
+     *
+     * @param out    the output array
+     * @param offset the offset in {@code out} to start writing
+     */
+    protected abstract void doDigest(byte[] out, int offset);
+
+    @Override
+    public final int digestInto(byte[] out, int offset) {
+        Assert.notNull(out, "output byte array cannot be null.");
+        Objects.checkFromIndexSize(offset, this.DIGEST_LENGTH, out.length);
+        doDigest(out, offset);
+        return this.DIGEST_LENGTH;
+    }
+
+    @Override
+    public final int digestInto(ByteBuffer out) {
+        Assert.notNull(out, "ByteBuffer output cannot be null.");
+        // validate before completing the digest, otherwise the message state would be lost:
+        if (out.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        if (out.remaining() < this.DIGEST_LENGTH) {
+            String msg = "ByteBuffer output has " + out.remaining() + " bytes remaining, but " +
+                    this.DIGEST_LENGTH + " are required.";
+            throw new IllegalArgumentException(msg);
+        }
+        int position = out.position();
+        if (out.hasArray()) { // heap buffer, write directly into the backing array
+            doDigest(out.array(), out.arrayOffset() + position);
+            out.position(position + this.DIGEST_LENGTH);
+        } else {
+            byte[] s = scratch();
+            doDigest(s, 0);
+            out.put(s);
+            Arrays.fill(s, (byte) 0);
+        }
+        return this.DIGEST_LENGTH;
+    }
+
+    @Override
+    public final boolean test(byte[] expected) {
+        return test(Bytes.nullSafe(expected), 0, Bytes.length(expected));
+    }
+
+    @Override
+    public final boolean test(byte[] expected, int offset, int len) {
+        Assert.notNull(expected, "expected byte array cannot be null.");
+        Objects.checkFromIndexSize(offset, len, expected.length);
+        byte[] s = scratch();
+        doDigest(s, 0);
+        try {
+            return len == this.DIGEST_LENGTH && Bytes.isEqual(s, 0, expected, offset, len);
+        } finally {
+            Arrays.fill(s, (byte) 0);
+        }
+    }
+
+    @Override
+    public final boolean test(ByteBuffer expected) {
+        Assert.notNull(expected, "ByteBuffer expected cannot be null.");
+        int position = expected.position();
+        int len = expected.remaining();
+        expected.position(expected.limit());
+        if (expected.hasArray()) {
+            return test(expected.array(), expected.arrayOffset() + position, len);
+        }
+        byte[] s = scratch();
+        doDigest(s, 0);
+        try {
+            if (len != this.DIGEST_LENGTH) return false;
+            int result = 0; // constant time, see Bytes.isEqual
+            for (int i = 0; i < len; i++) {
+                result |= s[i] ^ expected.get(position + i);
+            }
+            return result == 0;
+        } finally {
+            Arrays.fill(s, (byte) 0);
+        }
+    }
+}
@@ -17,61 +17,126 @@ package scrapi.impl.msg;
 
 import scrapi.impl.jca.JcaTemplate;
 import scrapi.key.SymmetricKey;
+import scrapi.lang.CheckedFunction;
 import scrapi.msg.Digest;
-import scrapi.msg.Hasher;
+import scrapi.msg.MessageException;
 import scrapi.msg.MacAlgorithm;
 import scrapi.util.Assert;
 
 import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
 import java.nio.ByteBuffer;
-import java.security.MessageDigest;
 import java.security.Provider;
 
 abstract class AbstractMacHasher<D extends Digest<A>, A extends MacAlgorithm<?, ?, ?, D, ?>>
-        extends AbstractMessageConsumer<Hasher<D>> implements Hasher<D> {
+        extends AbstractHasher<D> {
 
     public static final String JCA_KEY_NOT_NULL = SymmetricKey.class.getName() + " toJcaKey() value cannot be null.";
 
     protected final A alg;
-    protected final Mac MAC;
+    private final MacSource source; // null if the Mac was supplied directly and can't be released
+    private Mac mac; // null after being released to the source, re-borrowed on demand
 
     AbstractMacHasher(A alg, Mac mac) {
-        this.alg = Assert.notNull(alg, "alg must not be null.");
-        this.MAC = Assert.notNull(mac, "Mac must not be null");
+        super(Assert.notNull(alg, "alg must not be null.").size().bytes());
+        this.alg = alg;
+        this.mac = Assert.notNull(mac, "Mac must not be null");
+        this.source = null;
     }
 
     AbstractMacHasher(A alg, Provider provider, SymmetricKey key) {
-        this.alg = Assert.notNull(alg, "alg must not be null.");
+        this(alg, pooled(alg, provider, key));
+    }
+
+    AbstractMacHasher(A alg, MacSource source) {
+        super(Assert.notNull(alg, "alg must not be null.").size().bytes());
+        this.alg = alg;
+        this.source = Assert.notNull(source, "MacSource must not be null.");
+        this.mac = this.source.borrow();
+    }
+
+    private static MacSource pooled(MacAlgorithm<?, ?, ?, ?, ?> alg, Provider provider, SymmetricKey key) {
+        Assert.notNull(alg, "alg must not be null.");
         Assert.notNull(key, "MAC key cannot be null.");
         javax.crypto.SecretKey jcaKey = Assert.notNull(key.toJcaKey(), JCA_KEY_NOT_NULL);
-        this.MAC = new JcaTemplate(alg.id(), provider).withMac(mac -> {
+        final JcaTemplate jca = new JcaTemplate(alg.id(), provider);
+        final CheckedFunction<Mac, Mac> init = mac -> {
             mac.init(jcaKey);
             return mac;
-        });
+        };
+        return new MacSource() {
+            @Override
+            public Mac borrow() {
+                return jca.borrowMac(init);
+            }
+
+            @Override
+            public boolean release(Mac mac) {
+                return jca.release(mac);
+            }
+        };
+    }
+
+    protected final Mac mac() {
+        if (this.mac == null) {
+            this.mac = this.source.borrow();
+        }
+        return this.mac;
+    }
+
+    /**
+     * Finishes the MAC computation, returning the result and releasing the underlying {@code Mac} to its
+     * {@link MacSource} (e.g. the {@link scrapi.impl.jca.JcaEnginePool JcaEnginePool} if pooling is enabled).
+     *
+     * @return the MAC computation result.
+     */
+    protected final byte[] doFinal() {
+        byte[] result = mac().doFinal();
+        release();
+        return result;
+    }
+
+    private void release() {
+        if (this.source != null && this.source.release(this.mac)) {
+            this.mac = null;
+        }
+    }
+
+    @Override
+    protected void doDigest(byte[] out, int offset) {
+        try {
+            mac().doFinal(out, offset);
+        } catch (ShortBufferException e) {
+            String msg = "Unable to compute " + this.alg.id() + " MAC: " + e.getMessage();
+            throw new MessageException(msg, e);
+        }
+        release();
     }
 
     @Override
     protected void doApply(byte input) {
-        this.MAC.update(input);
+        mac().update(input);
     }
 
     @Override
     protected void doApply(byte[] input) {
-        this.MAC.update(input);
+        mac().update(input);
     }
 
     @Override
     protected void doApply(byte[] input, int offset, int len) {
-        this.MAC.update(input, offset, len);
+        mac().update(input, offset, len);
     }
 
     @Override
     protected void doApply(ByteBuffer input) {
-        this.MAC.update(input);
+        mac().update(input);
     }
 
     @Override
-    public boolean test(byte[] bytes) {
-        return MessageDigest.isEqual(get().octets(), bytes); // constant time operation
+    protected void doReset() {
+        if (this.mac != null) { // otherwise already reset and released to its source
+            this.mac.reset();
+        }
     }
 }
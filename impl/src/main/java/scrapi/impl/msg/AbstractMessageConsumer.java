@@ -16,12 +16,38 @@
 package scrapi.impl.msg;
 
 import scrapi.msg.MessageConsumer;
+import scrapi.msg.MessageException;
 import scrapi.util.Assert;
 
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 
 abstract class AbstractMessageConsumer<T extends MessageConsumer<T>> implements MessageConsumer<T> {
 
+    /**
+     * Maximum number of file bytes mapped at once.  Bounded to limit the virtual address space held by
+     * mapped regions that have not yet been unmapped by the garbage collector.
+     */
+    static final long MAP_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * File regions smaller than this are read instead of mapped, as the cost of establishing a mapping exceeds
+     * that of copying a small amount of data.
+     */
+    static final long MAP_THRESHOLD = 64 * 1024;
+
+    static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+    private byte[] streamBuffer; // lazily created, reused across stream/small file reads
+
     @SuppressWarnings("unchecked")
     protected final T self() {
         return (T) this;
@@ -59,4 +85,117 @@ abstract class AbstractMessageConsumer<T extends MessageConsumer<T>> implements
         doApply(input);
         return self();
     }
+
+    private byte[] streamBuffer() {
+        if (this.streamBuffer == null) {
+            this.streamBuffer = new byte[STREAM_BUFFER_SIZE];
+        }
+        return this.streamBuffer;
+    }
+
+    @Override
+    public final T apply(Path file) {
+        Assert.notNull(file, "Path cannot be null.");
+        try {
+            if (!Files.isRegularFile(file)) {
+                try (InputStream in = Files.newInputStream(file)) {
+                    doApply(in);
+                }
+            } else {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                    doApply(channel, 0, channel.size());
+                }
+            }
+        } catch (IOException e) {
+            String msg = "Unable to read file " + file + ": " + e.getMessage();
+            throw new MessageException(msg, e);
+        }
+        return self();
+    }
+
+    @Override
+    public final T apply(FileChannel channel, long position, long len) {
+        Assert.notNull(channel, "FileChannel cannot be null.");
+        Assert.gte(position, 0L, "position cannot be negative.");
+        Assert.gte(len, 0L, "len cannot be negative.");
+        try {
+            long size = channel.size();
+            if (position > size - len) {
+                String msg = "Region [" + position + ", " + (position + len) + ") extends beyond the end of the " +
+                        "file (" + size + " bytes).";
+                throw new IllegalArgumentException(msg);
+            }
+            doApply(channel, position, len);
+        } catch (IOException e) {
+            String msg = "Unable to read FileChannel: " + e.getMessage();
+            throw new MessageException(msg, e);
+        }
+        return self();
+    }
+
+    private void doApply(FileChannel channel, long position, long len) throws IOException {
+        if (len < MAP_THRESHOLD) {
+            ByteBuffer buf = ByteBuffer.wrap(streamBuffer(), 0, (int) len);
+            try {
+                while (buf.hasRemaining()) {
+                    if (channel.read(buf, position + buf.position()) < 0) {
+                        throw new EOFException("Unexpected end of file.");
+                    }
+                }
+                doApply(buf.array(), 0, (int) len);
+            } finally {
+                Arrays.fill(buf.array(), 0, buf.position(), (byte) 0); // don't retain message bytes
+            }
+            return;
+        }
+        long end = position + len;
+        for (long offset = position; offset < end; offset += MAP_WINDOW_SIZE) {
+            long windowSize = Math.min(MAP_WINDOW_SIZE, end - offset);
+            doApply(channel.map(FileChannel.MapMode.READ_ONLY, offset, windowSize));
+        }
+    }
+
+    @Override
+    public final T apply(InputStream input) {
+        Assert.notNull(input, "InputStream cannot be null.");
+        try {
+            doApply(input);
+        } catch (IOException e) {
+            String msg = "Unable to read InputStream: " + e.getMessage();
+            throw new MessageException(msg, e);
+        }
+        return self();
+    }
+
+    private void doApply(InputStream in) throws IOException {
+        if (in instanceof FileInputStream fis) {
+            FileChannel channel = fis.getChannel();
+            long position = channel.position();
+            long size = channel.size(); // 0 for pipes and other non-regular files
+            if (size > position) {
+                doApply(channel, position, size - position);
+                channel.position(size); // consume the stream like a read loop would
+                return;
+            }
+        }
+        byte[] buf = streamBuffer();
+        int used = 0; // high-water mark of buf bytes holding message data
+        try {
+            int read;
+            while ((read = in.read(buf)) != -1) {
+                used = Math.max(used, read);
+                doApply(buf, 0, read);
+            }
+        } finally {
+            Arrays.fill(buf, 0, used, (byte) 0); // don't retain message bytes
+        }
+    }
+
+    protected abstract void doReset();
+
+    @Override
+    public final T reset() {
+        doReset();
+        return self();
+    }
 }
@@ -15,10 +15,7 @@
  */
 package scrapi.impl.msg;
 
-import scrapi.impl.jca.JcaTemplate;
 import scrapi.key.AsymmetricKey;
-import scrapi.key.PrivateKey;
-import scrapi.key.PublicKey;
 import scrapi.lang.CheckedRunnable;
 import scrapi.msg.MessageConsumer;
 import scrapi.msg.MessageException;
@@ -35,21 +32,44 @@ abstract class AbstractSignatureConsumer<
         >
         extends AbstractMessageConsumer<T> {
 
-    protected final Signature SIG;
+    private final SignatureSource source;
+    private Signature sig; // null after being returned to the source, re-borrowed on demand
 
     protected AbstractSignatureConsumer(String id, Provider provider, final SecureRandom random, final K key) {
-        Assert.notNull(key, "Key cannot be null.");
-        this.SIG = new JcaTemplate(id, provider, random).withSignature(sig -> {
-            if (key instanceof PrivateKey<?, ?> priv) {
-                sig.initSign(priv.toJcaKey(), random);
-            } else if (key instanceof PublicKey<?> pub) {
-                sig.initVerify(pub.toJcaKey());
-            } else {
-                String msg = "Unsupported with type: " + key.getClass().getName();
-                throw new IllegalArgumentException(msg);
-            }
-            return sig;
-        });
+        this(new JcaSignatureSource(id, provider, random, key));
+    }
+
+    protected AbstractSignatureConsumer(SignatureSource source) {
+        this.source = Assert.notNull(source, "SignatureSource cannot be null.");
+        this.sig = source.borrow();
+    }
+
+    protected final Signature sig() {
+        if (this.sig == null) {
+            this.sig = this.source.borrow();
+        }
+        return this.sig;
+    }
+
+    /**
+     * Releases the underlying {@code Signature} to its {@link SignatureSource}, e.g. the
+     * {@link scrapi.impl.jca.JcaEnginePool JcaEnginePool} if pooling is enabled.  Must only be called after a
+     * {@code sign} or {@code verify} call.
+     */
+    protected final void release() {
+        if (this.source.release(this.sig)) {
+            this.sig = null;
+        }
+    }
+
+    /**
+     * JCA {@code Signature} instances have no {@code reset()} method; they are reset by re-initializing them with
+     * the same key.
+     */
+    @Override
+    protected void doReset() {
+        if (this.sig == null) return; // already reset and released to the source
+        this.source.reset(this.sig);
     }
 
     private void apply(CheckedRunnable r) {
@@ -63,21 +83,21 @@ abstract class AbstractSignatureConsumer<
 
     @Override
     protected void doApply(byte input) {
-        apply(() -> this.SIG.update(input));
+        apply(() -> sig().update(input));
     }
 
     @Override
     protected void doApply(byte[] input) {
-        apply(() -> this.SIG.update(input));
+        apply(() -> sig().update(input));
     }
 
     @Override
     protected void doApply(byte[] input, int offset, int len) {
-        apply(() -> this.SIG.update(input, offset, len));
+        apply(() -> sig().update(input, offset, len));
     }
 
     @Override
     protected void doApply(ByteBuffer input) {
-        apply(() -> this.SIG.update(input));
+        apply(() -> sig().update(input));
     }
 }
@@ -0,0 +1,170 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.msg;
+
+import scrapi.key.PublicKey;
+import scrapi.lang.Destroyable;
+import scrapi.msg.Digest;
+import scrapi.msg.HashAlgorithm;
+import scrapi.msg.Hasher;
+import scrapi.msg.Verifier;
+import scrapi.util.Assert;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Verifier} that answers repeated successful verifications from a {@link DefaultVerificationCache}.
+ *
+ * <p>Message data is digested as it is applied, and also buffered (up to {@link #MAX_BUFFER_SIZE} bytes) so that
+ * it can be replayed to the algorithm's own verifier on a cache miss.  The delegate verifier, and therefore its
+ * JCA {@code Signature}, is only created on the first miss, or once a message exceeds the buffer size, in which
+ * case the data is streamed to it directly.</p>
+ */
+final class CachingVerifier extends AbstractMessageConsumer<Verifier> implements Verifier {
+
+    static final int MAX_BUFFER_SIZE = STREAM_BUFFER_SIZE;
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private final DefaultVerificationCache cache;
+    private final PublicKey<?> key;
+    private final Supplier<Verifier> delegateSupplier;
+    private final byte[] keyDigest; // SHA-256(algorithm id || 0x00 || public key encoding)
+    private final byte[] encodingDigest; // SHA-256(public key encoding), for DefaultVerificationCache#invalidate
+    private final Hasher<Digest<HashAlgorithm>> hasher = HashAlgorithm.SHA_256.get();
+
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+    private int len;
+    private Verifier delegate; // lazily created
+    private boolean streaming; // true if the current message is being applied directly to the delegate
+
+    CachingVerifier(DefaultVerificationCache cache, String algId, PublicKey<?> key, Supplier<Verifier> delegate) {
+        this.cache = cache;
+        this.key = key;
+        this.delegateSupplier = delegate;
+        byte[] encoded = Assert.notNull(key.toJcaKey().getEncoded(), "PublicKey must have an encoded form.");
+        this.keyDigest = HashAlgorithm.SHA_256.get()
+                .apply(algId.getBytes(StandardCharsets.UTF_8)).apply((byte) 0).apply(encoded)
+                .get().octets();
+        this.encodingDigest = DefaultVerificationCache.encodingDigest(key);
+    }
+
+    private Verifier delegate() {
+        if (this.delegate == null) {
+            this.delegate = Assert.notNull(this.delegateSupplier.get(), "Delegate Verifier cannot be null.");
+        }
+        return this.delegate;
+    }
+
+    /**
+     * Returns {@code true} if {@code n} more bytes should be buffered, otherwise switches to streaming the message
+     * directly to the delegate and returns {@code false}.
+     */
+    private boolean buffer(int n) {
+        if (this.streaming) return false;
+        int required = this.len + n;
+        if (required > MAX_BUFFER_SIZE || required < 0) {
+            delegate().apply(this.buffer, 0, this.len);
+            this.streaming = true;
+            return false;
+        }
+        if (required > this.buffer.length) {
+            int size = Math.min(MAX_BUFFER_SIZE, Math.max(required, this.buffer.length << 1));
+            this.buffer = Arrays.copyOf(this.buffer, size);
+        }
+        return true;
+    }
+
+    @Override
+    protected void doApply(byte input) {
+        if (buffer(1)) {
+            this.buffer[this.len++] = input;
+        } else {
+            this.delegate.apply(input);
+        }
+        this.hasher.apply(input);
+    }
+
+    @Override
+    protected void doApply(byte[] input) {
+        doApply(input, 0, input.length);
+    }
+
+    @Override
+    protected void doApply(byte[] input, int offset, int len) {
+        Objects.checkFromIndexSize(offset, len, input.length);
+        if (buffer(len)) {
+            System.arraycopy(input, offset, this.buffer, this.len, len);
+            this.len += len;
+        } else {
+            this.delegate.apply(input, offset, len);
+        }
+        this.hasher.apply(input, offset, len);
+    }
+
+    @Override
+    protected void doApply(ByteBuffer input) {
+        int n = input.remaining();
+        if (buffer(n)) {
+            input.duplicate().get(this.buffer, this.len, n);
+            this.len += n;
+        } else {
+            this.delegate.apply(input.duplicate());
+        }
+        this.hasher.apply(input);
+    }
+
+    @Override
+    protected void doReset() {
+        this.hasher.reset();
+        if (this.delegate != null) this.delegate.reset();
+        clear();
+    }
+
+    private void clear() {
+        Arrays.fill(this.buffer, 0, this.len, (byte) 0);
+        this.len = 0;
+        this.streaming = false;
+    }
+
+    @Override
+    public boolean test(byte[] signature) {
+        Assert.notNull(signature, "signature cannot be null.");
+        try {
+            byte[] messageDigest = this.hasher.get().octets();
+            DefaultVerificationCache.EntryKey entryKey = new DefaultVerificationCache.EntryKey(
+                    HashAlgorithm.SHA_256.get().apply(this.keyDigest).apply(messageDigest).apply(signature)
+                            .get().octets());
+            boolean destroyed = this.key instanceof Destroyable d && d.isDestroyed();
+            if (!destroyed && this.cache.contains(entryKey)) {
+                if (this.streaming) this.delegate.reset();
+                return true;
+            }
+            Verifier verifier = delegate();
+            if (!this.streaming) verifier.apply(this.buffer, 0, this.len);
+            boolean valid = verifier.test(signature);
+            if (valid && !destroyed) {
+                this.cache.put(entryKey, this.key, this.encodingDigest);
+            }
+            return valid;
+        } finally {
+            clear();
+        }
+    }
+}
@@ -16,34 +16,119 @@
 package scrapi.impl.msg;
 
 import scrapi.alg.Size;
+import scrapi.impl.jca.JcaEnginePool;
 import scrapi.impl.jca.JcaTemplate;
 import scrapi.msg.Digest;
 import scrapi.msg.HashAlgorithm;
 import scrapi.msg.Hasher;
 import scrapi.util.Assert;
 
+import java.io.Serial;
 import java.security.MessageDigest;
 import java.security.Provider;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 class DefaultHashAlgorithm extends AbstractDigestAlgorithm implements HashAlgorithm {
 
-    private static Size digestSize(String jcaName, Provider provider) {
-        int numBytes = new JcaTemplate(jcaName, provider).withMessageDigest(MessageDigest::getDigestLength);
-        Assert.gt(numBytes, 0, "JCA digestLength must be > 0");
-        return Size.bytes(numBytes);
+    /**
+     * Returns the specified {@code MessageDigest} if its provider implementation supports {@code clone()}, or
+     * {@code null} otherwise.
+     *
+     * @param md the new, unused {@code MessageDigest} to check
+     * @return {@code md} if it can be cloned, {@code null} otherwise.
+     */
+    private static MessageDigest prototype(MessageDigest md) {
+        try {
+            md.clone();
+            return md;
+        } catch (CloneNotSupportedException e) {
+            return null;
+        }
     }
 
-    DefaultHashAlgorithm(String id) {
-        this(id, null);
+    /**
+     * A pristine {@code MessageDigest} that is never updated and only cloned to create new hashers.  Cloning is
+     * much cheaper than a JCA provider lookup, and concurrent clones are safe since the prototype's
+     * state is never modified.  {@code null} until first use, or if the provider implementation is not
+     * {@code Cloneable}.
+     */
+    private volatile MessageDigest prototype;
+
+    /**
+     * {@code true} once the JCA engine has been looked up and verified, after which {@link #prototype} no longer
+     * changes.  Deferring this until the first hasher is needed means registry creation (and therefore class
+     * initialization of every algorithm constant) never touches the JCA.
+     */
+    private volatile boolean probed;
+
+    DefaultHashAlgorithm(String id, Size digestSize) {
+        this(id, null, digestSize);
+    }
+
+    DefaultHashAlgorithm(String id, Provider provider, Size digestSize) {
+        super(id, provider, digestSize);
+    }
+
+    private MessageDigest prototype() {
+        if (!this.probed) {
+            synchronized (this) {
+                if (!this.probed) {
+                    MessageDigest md = new JcaTemplate(this.ID, this.PROVIDER).withMessageDigest(d -> d);
+                    int len = md.getDigestLength();
+                    if (len != this.DIGEST_SIZE.bytes()) {
+                        String msg = "JCA " + this.ID + " MessageDigest length (" + len + " bytes) does not " +
+                                "match the expected digest size (" + this.DIGEST_SIZE.bytes() + " bytes).";
+                        throw new IllegalStateException(msg);
+                    }
+                    this.prototype = prototype(md);
+                    this.probed = true;
+                }
+            }
+        }
+        return this.prototype;
     }
 
-    DefaultHashAlgorithm(String id, Provider provider) {
-        super(id, provider, digestSize(id, provider));
+    private MessageDigest newMessageDigest() {
+        MessageDigest prototype = prototype();
+        // Pooled instances are cheaper still (no allocation), so only clone if pooling isn't enabled:
+        if (prototype == null || JcaEnginePool.INSTANCE.isEnabled()) {
+            return null; // JcaMessageDigester will obtain one from the JcaTemplate
+        }
+        try {
+            return (MessageDigest) prototype.clone();
+        } catch (CloneNotSupportedException e) { // shouldn't happen since we checked when probing
+            return null;
+        }
     }
 
     @Override
     public Hasher<Digest<HashAlgorithm>> get() {
-        return new JcaMessageDigester(this, this.PROVIDER);
+        return new JcaMessageDigester(this, this.PROVIDER, newMessageDigest());
+    }
+
+    @Override
+    public int digestAll(List<byte[]> messages, byte[] out, int offset) {
+        Assert.notNull(messages, "messages cannot be null.");
+        Assert.notNull(out, "output byte array cannot be null.");
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        if (messages.size() < DigestAllTask.MIN_PARALLEL_SIZE || pool.getParallelism() < 2 ||
+                !(messages instanceof RandomAccess)) {
+            return HashAlgorithm.super.digestAll(messages, out, offset);
+        }
+        int total = Math.multiplyExact(messages.size(), this.DIGEST_SIZE.bytes());
+        Objects.checkFromIndexSize(offset, total, out.length);
+        int chunkSize = Math.max(DigestAllTask.MIN_CHUNK_SIZE, messages.size() / (pool.getParallelism() * 4));
+        pool.invoke(new DigestAllTask(this, messages, 0, messages.size(), chunkSize, out, offset));
+        return total;
+    }
+
+    @Override
+    public HashAlgorithm tree(Size leafSize) {
+        return new TreeHashAlgorithm(this, leafSize);
     }
 
     @Override
@@ -51,4 +136,54 @@ class DefaultHashAlgorithm extends AbstractDigestAlgorithm implements HashAlgori
         if (obj == this) return true;
         return obj instanceof HashAlgorithm && super.equals(obj);
     }
+
+    /**
+     * Splits a {@link #digestAll(List, byte[], int) digestAll} batch in halves until chunks are small enough, and
+     * digests each chunk sequentially with a single hasher (and therefore a single JCA engine).
+     */
+    private static final class DigestAllTask extends RecursiveAction {
+
+        @Serial
+        private static final long serialVersionUID = 4125163012406370551L;
+
+        private static final int MIN_PARALLEL_SIZE = 512; // smaller batches aren't worth the fork/join overhead
+        private static final int MIN_CHUNK_SIZE = 128;
+
+        private final HashAlgorithm alg;
+        private final List<byte[]> messages;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final byte[] out;
+        private final int offset; // of message 'from' in out
+
+        private DigestAllTask(HashAlgorithm alg, List<byte[]> messages, int from, int to, int chunkSize,
+                              byte[] out, int offset) {
+            this.alg = alg;
+            this.messages = messages;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.out = out;
+            this.offset = offset;
+        }
+
+        @Override
+        protected void compute() {
+            int len = this.alg.size().bytes();
+            if (this.to - this.from <= this.chunkSize) {
+                Hasher<Digest<HashAlgorithm>> hasher = this.alg.get();
+                int position = this.offset;
+                for (int i = this.from; i < this.to; i++) {
+                    byte[] message = Assert.notNull(this.messages.get(i), "messages cannot contain null elements.");
+                    position += hasher.apply(message).digestInto(this.out, position);
+                }
+                return;
+            }
+            int mid = (this.from + this.to) >>> 1;
+            invokeAll(new DigestAllTask(this.alg, this.messages, this.from, mid, this.chunkSize, this.out, this.offset),
+                    new DigestAllTask(this.alg, this.messages, mid, this.to, this.chunkSize, this.out,
+                            this.offset + (mid - this.from) * len));
+        }
+    }
 }
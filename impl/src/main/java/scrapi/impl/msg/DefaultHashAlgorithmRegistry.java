@@ -15,6 +15,7 @@
  */
 package scrapi.impl.msg;
 
+import scrapi.alg.Size;
 import scrapi.impl.lang.IdentifiableRegistry;
 import scrapi.msg.HashAlgorithm;
 import scrapi.util.Collections;
@@ -24,21 +25,23 @@ public final class DefaultHashAlgorithmRegistry extends IdentifiableRegistry<Str
     // ----------------------------------------------------------------------------------------------------------
     // https://docs.oracle.com/en/java/javase/21/docs/specs/security/standard-names.html#messagedigest-algorithms
     // ----------------------------------------------------------------------------------------------------------
+    // Digest sizes are declared rather than obtained from the JCA so that creating the registry doesn't require a
+    // provider lookup for every algorithm.  They're verified against the JCA engine when each is first used.
     public DefaultHashAlgorithmRegistry() {
         super("Hash Algorithm", Collections.<HashAlgorithm>of(
-                new DefaultHashAlgorithm("MD2"),
-                new DefaultHashAlgorithm("MD5"),
-                new DefaultHashAlgorithm("SHA-1"),
-                new DefaultHashAlgorithm("SHA-224"),
-                new DefaultHashAlgorithm("SHA-256"),
-                new DefaultHashAlgorithm("SHA-384"),
-                new DefaultHashAlgorithm("SHA-512"),
-                new DefaultHashAlgorithm("SHA-512/224"),
-                new DefaultHashAlgorithm("SHA-512/256"),
-                new DefaultHashAlgorithm("SHA3-224"),
-                new DefaultHashAlgorithm("SHA3-256"),
-                new DefaultHashAlgorithm("SHA3-384"),
-                new DefaultHashAlgorithm("SHA3-512")
+                new DefaultHashAlgorithm("MD2", Size.bits(128)),
+                new DefaultHashAlgorithm("MD5", Size.bits(128)),
+                new DefaultHashAlgorithm("SHA-1", Size.bits(160)),
+                new DefaultHashAlgorithm("SHA-224", Size.bits(224)),
+                new DefaultHashAlgorithm("SHA-256", Size.bits(256)),
+                new DefaultHashAlgorithm("SHA-384", Size.bits(384)),
+                new DefaultHashAlgorithm("SHA-512", Size.bits(512)),
+                new DefaultHashAlgorithm("SHA-512/224", Size.bits(224)),
+                new DefaultHashAlgorithm("SHA-512/256", Size.bits(256)),
+                new DefaultHashAlgorithm("SHA3-224", Size.bits(224)),
+                new DefaultHashAlgorithm("SHA3-256", Size.bits(256)),
+                new DefaultHashAlgorithm("SHA3-384", Size.bits(384)),
+                new DefaultHashAlgorithm("SHA3-512", Size.bits(512))
         ));
     }
 }
@@ -28,6 +28,7 @@ import scrapi.msg.HmacAlgorithm;
 
 import java.security.Provider;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public class DefaultHmacAlgorithm extends AbstractMacAlgorithm<
         OctetSecretKey,
@@ -57,4 +58,9 @@ public class DefaultHmacAlgorithm extends AbstractMacAlgorithm<
         p.accept(param);
         return new DefaultMacHasher<>(this, param.provider(), param.key());
     }
+
+    @Override
+    public Supplier<Hasher<Digest<HmacAlgorithm>>> prepare(OctetSecretKey key) {
+        return new PreparedMacKey<>(this, this.PROVIDER, key);
+    }
 }
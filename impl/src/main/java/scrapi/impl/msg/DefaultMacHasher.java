@@ -32,8 +32,12 @@ class DefaultMacHasher<A extends MacAlgorithm<?, ?, ?, Digest<A>, ?>> extends Ab
         super(alg, provider, key);
     }
 
+    DefaultMacHasher(A alg, MacSource source) {
+        super(alg, source);
+    }
+
     @Override
     public Digest<A> get() {
-        return new DefaultDigest<>(this.alg, this.MAC.doFinal());
+        return new DefaultDigest<>(this.alg, doFinal());
     }
 }
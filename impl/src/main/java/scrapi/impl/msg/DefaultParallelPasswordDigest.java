@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.msg;
+
+import scrapi.msg.ParallelPasswordDigest;
+import scrapi.msg.ParallelPbeMacAlgorithm;
+import scrapi.util.Objects;
+
+class DefaultParallelPasswordDigest extends DefaultPasswordDigest<ParallelPbeMacAlgorithm>
+        implements ParallelPasswordDigest {
+
+    private final int lanes;
+
+    DefaultParallelPasswordDigest(ParallelPbeMacAlgorithm algorithm, byte[] octets, byte[] salt, int cost,
+                                  int lanes) {
+        super(algorithm, octets, salt, cost);
+        this.lanes = DefaultParallelPbeMacAlgorithm.assertLanes(lanes);
+    }
+
+    @Override
+    public int lanes() {
+        return this.lanes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.nullSafeHashCode(super.hashCode(), this.lanes);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) return true;
+        return obj instanceof ParallelPasswordDigest pd && super.equals(pd) && this.lanes == pd.lanes();
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.msg;
+
+import scrapi.impl.jca.JcaTemplate;
+import scrapi.impl.key.DefaultPassword;
+import scrapi.impl.key.DefaultPasswordGenerator;
+import scrapi.impl.key.KeyableSupport;
+import scrapi.key.Password;
+import scrapi.key.PasswordGenerator;
+import scrapi.msg.Hasher;
+import scrapi.msg.HmacAlgorithm;
+import scrapi.msg.ParallelPasswordDigest;
+import scrapi.msg.ParallelPbeMacAlgorithm;
+import scrapi.msg.PasswordMacAlgorithm;
+import scrapi.msg.PbeMacAlgorithm;
+import scrapi.util.Assert;
+import scrapi.util.Bytes;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.PBEParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.Provider;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+class DefaultParallelPbeMacAlgorithm extends AbstractMacAlgorithm<
+        Password,
+        ParallelPbeMacAlgorithm.Params,
+        PasswordGenerator,
+        ParallelPasswordDigest,
+        ParallelPbeMacAlgorithm
+        >
+        implements ParallelPbeMacAlgorithm {
+
+    private static final String LANES_MSG = "lanes must be between 1 and " + MAX_LANES + " (inclusive).";
+    private static final String LANE_ITERATIONS_MSG = "cost divided by lanes must be >= " +
+            DefaultPassword.MIN_ITERATIONS;
+
+    static int assertLanes(int lanes) {
+        Assert.gte(lanes, 1, LANES_MSG);
+        return Assert.lte(lanes, MAX_LANES, LANES_MSG);
+    }
+
+    private final PbeMacAlgorithm PBE_ALG;
+    private final HmacAlgorithm HMAC_ALG;
+    private final int DEFAULT_ITERATIONS;
+
+    DefaultParallelPbeMacAlgorithm(PbeMacAlgorithm pbeAlg, HmacAlgorithm hmacAlg, int defaultIterations) {
+        this(pbeAlg.id() + "/PARALLEL", null, pbeAlg, hmacAlg, defaultIterations);
+    }
+
+    private DefaultParallelPbeMacAlgorithm(String id, Provider provider, PbeMacAlgorithm pbeAlg,
+                                           HmacAlgorithm hmacAlg, int defaultIterations) {
+        super(id, provider, hmacAlg.size(), DefaultPasswordGenerator::new);
+        this.PBE_ALG = pbeAlg;
+        this.HMAC_ALG = hmacAlg;
+        this.DEFAULT_ITERATIONS = DefaultPassword.assertIterationsGte(defaultIterations);
+    }
+
+    @Override
+    public PbeMacAlgorithm pbeMacAlgorithm() {
+        return this.PBE_ALG;
+    }
+
+    @Override
+    public Hasher<ParallelPasswordDigest> with(Consumer<Params> p) {
+        Builder builder = new Builder(this);
+        builder.provider(this.PROVIDER).cost(this.DEFAULT_ITERATIONS);
+        p.accept(builder);
+        return builder.get();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) return true;
+        return obj instanceof PasswordMacAlgorithm && super.equals(obj);
+    }
+
+    private static final class Builder extends KeyableSupport<Password, Params> implements Params {
+
+        private final DefaultParallelPbeMacAlgorithm alg;
+        private byte[] salt;
+        private int iterations;
+        private int lanes = DEFAULT_LANES;
+        private Executor executor = ForkJoinPool.commonPool();
+
+        private Builder(DefaultParallelPbeMacAlgorithm alg) {
+            super(Assert.notNull(alg, "alg must not be null.").PBE_ALG.id()); // lanes use the PBE Mac
+            this.alg = alg;
+        }
+
+        @Override
+        public Params salt(byte[] salt) {
+            this.salt = Assert.notEmpty(salt, "salt cannot be null or empty").clone();
+            return self();
+        }
+
+        @Override
+        public Params cost(int i) {
+            this.iterations = DefaultPassword.assertIterationsGte(i);
+            return self();
+        }
+
+        @Override
+        public Params lanes(int lanes) {
+            this.lanes = assertLanes(lanes);
+            return self();
+        }
+
+        @Override
+        public Params executor(Executor executor) {
+            this.executor = Assert.notNull(executor, "executor cannot be null.");
+            return self();
+        }
+
+        /**
+         * Returns the output of the lane at the specified index: the PBE MAC of an empty message, keyed with the
+         * password, the salt suffixed with the lane index, and the lane iteration count.
+         */
+        private byte[] lane(char[] chars, byte[] salt, int index, int iterations) {
+            final byte[] laneSalt = Arrays.copyOf(salt, salt.length + Integer.BYTES);
+            System.arraycopy(Bytes.toBytes(index), 0, laneSalt, salt.length, Integer.BYTES);
+            return jca().withMac(mac -> {
+                SecretKeySpec keySpec = DefaultPassword.toJcaKey(chars);
+                mac.init(keySpec, new PBEParameterSpec(laneSalt, iterations));
+                return mac.doFinal();
+            });
+        }
+
+        private static RuntimeException unwrap(CompletionException e) {
+            return e.getCause() instanceof RuntimeException re ? re : e;
+        }
+
+        private Hasher<ParallelPasswordDigest> get() {
+            Assert.notNull(this.key, "Password cannot be null or empty.");
+            DefaultPassword.assertIterationsGte(this.iterations);
+            final int lanes = assertLanes(this.lanes);
+            final int laneIterations = this.iterations / lanes + (this.iterations % lanes == 0 ? 0 : 1);
+            Assert.gte(laneIterations, DefaultPassword.MIN_ITERATIONS, LANE_ITERATIONS_MSG);
+            final byte[] salt = !Bytes.isEmpty(this.salt) ? this.salt : Bytes.random(this.alg.size().bytes());
+            final char[] chars = this.key.chars();
+            final Executor executor = this.executor;
+            final Executor callerRunsExecutor = r -> { // never fail because a bounded executor is saturated
+                try {
+                    executor.execute(r);
+                } catch (RejectedExecutionException e) {
+                    r.run();
+                }
+            };
+
+            byte[] key = null;
+            RuntimeException failure = null;
+            try {
+                List<CompletableFuture<byte[]>> others = new ArrayList<>(lanes - 1);
+                for (int i = 1; i < lanes; i++) {
+                    final int index = i;
+                    others.add(CompletableFuture.supplyAsync(
+                            () -> lane(chars, salt, index, laneIterations), callerRunsExecutor));
+                }
+                try {
+                    key = lane(chars, salt, 0, laneIterations); // the calling thread computes the first lane
+                } catch (RuntimeException e) {
+                    failure = e;
+                }
+                // always wait for every lane, so the password characters aren't cleared while still in use:
+                for (CompletableFuture<byte[]> other : others) {
+                    try {
+                        byte[] output = other.join();
+                        if (key != null) {
+                            for (int i = 0; i < key.length; i++) {
+                                key[i] ^= output[i];
+                            }
+                        }
+                        Arrays.fill(output, (byte) 0);
+                    } catch (CompletionException e) {
+                        if (failure == null) failure = unwrap(e);
+                    }
+                }
+            } finally {
+                Arrays.fill(chars, '\0');
+            }
+            if (failure != null) {
+                if (key != null) Arrays.fill(key, (byte) 0);
+                throw failure;
+            }
+
+            final byte[] hmacKey = key;
+            try {
+                Mac m = new JcaTemplate(this.alg.HMAC_ALG.id(), this.provider).withMac(mac -> {
+                    mac.init(new SecretKeySpec(hmacKey, this.alg.HMAC_ALG.id()));
+                    return mac;
+                });
+                return new ParallelPasswordMacHasher(this.alg, m, salt, this.iterations, lanes);
+            } finally {
+                Arrays.fill(hmacKey, (byte) 0);
+            }
+        }
+    }
+}
@@ -36,6 +36,6 @@ public class DefaultPasswordMacHasher<A extends PasswordMacAlgorithm<?, Password
 
     @Override
     public PasswordDigest<A> get() {
-        return new DefaultPasswordDigest<>(this.alg, this.MAC.doFinal(), this.salt, this.cost);
+        return new DefaultPasswordDigest<>(this.alg, doFinal(), this.salt, this.cost);
     }
 }
@@ -0,0 +1,220 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.msg;
+
+import scrapi.impl.key.DefaultPassword;
+import scrapi.key.Password;
+import scrapi.key.PasswordStretcher;
+import scrapi.msg.ParallelPasswordDigest;
+import scrapi.msg.ParallelPbeMacAlgorithm;
+import scrapi.msg.PasswordDigest;
+import scrapi.msg.PasswordMacAlgorithm;
+import scrapi.msg.PasswordMacService;
+import scrapi.util.Assert;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public final class DefaultPasswordMacService implements PasswordMacService, PasswordMacService.Metrics {
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+    private static final AtomicInteger SERVICE_COUNT = new AtomicInteger();
+
+    private final ThreadPoolExecutor executor;
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+
+    private DefaultPasswordMacService(int threads, int queueCapacity) {
+        BlockingQueue<Runnable> queue = queueCapacity == 0 ? new SynchronousQueue<>() :
+                new ArrayBlockingQueue<>(queueCapacity);
+        this.executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, queue,
+                new DaemonThreadFactory(SERVICE_COUNT.incrementAndGet()), new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true); // don't hold threads while idle
+    }
+
+    /**
+     * Returns a copy of the specified password, owned by a service task, as the caller may destroy the original as
+     * soon as the service method returns.
+     */
+    private static Password copy(Password password) {
+        char[] chars = password.chars();
+        try {
+            return new DefaultPassword(chars);
+        } finally {
+            Arrays.fill(chars, '\0');
+        }
+    }
+
+    /**
+     * Returns a consumer that computes any {@link ParallelPbeMacAlgorithm} lanes on the service thread, rather
+     * than the common pool, unless {@code params} specifies another executor.  This keeps all hashing within the
+     * service's bounded pool.
+     */
+    private static <S extends PasswordStretcher<S>> Consumer<S> serviceThreadLanes(Consumer<S> params) {
+        return p -> {
+            if (p instanceof ParallelPbeMacAlgorithm.Params lanes) {
+                lanes.executor(Runnable::run);
+            }
+            params.accept(p);
+        };
+    }
+
+    private <R> CompletableFuture<R> submit(Supplier<R> task, Runnable cleanup) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        this.accepted.increment(); // before execution, so completed never exceeds accepted
+        try {
+            this.executor.execute(() -> {
+                try {
+                    future.complete(task.get());
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                } finally {
+                    cleanup.run();
+                    this.completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            cleanup.run();
+            this.accepted.decrement();
+            this.rejected.increment();
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @Override
+    public <S extends PasswordStretcher<S>, D extends PasswordDigest<T>, T extends PasswordMacAlgorithm<S, D, T>>
+    CompletableFuture<D> digest(T alg, Consumer<S> params, byte[] message) {
+        Assert.notNull(alg, "PasswordMacAlgorithm cannot be null.");
+        Assert.notNull(params, "params consumer cannot be null.");
+        Assert.notNull(message, "message cannot be null.");
+        final byte[] copy = message.clone(); // the caller may modify message before the task runs
+        final Consumer<S> p = serviceThreadLanes(params);
+        return submit(() -> alg.with(p).apply(copy).get(), () -> Arrays.fill(copy, (byte) 0));
+    }
+
+    @Override
+    public <S extends PasswordStretcher<S>, D extends PasswordDigest<T>, T extends PasswordMacAlgorithm<S, D, T>>
+    CompletableFuture<Boolean> verify(T alg, Password password, D digest) {
+        Assert.notNull(alg, "PasswordMacAlgorithm cannot be null.");
+        Assert.notNull(password, "Password cannot be null.");
+        Assert.notNull(digest, "PasswordDigest cannot be null.");
+        final Password copy = copy(password);
+        return submit(() -> doVerify(alg, copy, digest), copy::destroy);
+    }
+
+    private static <S extends PasswordStretcher<S>, D extends PasswordDigest<T>, T extends PasswordMacAlgorithm<S, D, T>>
+    boolean doVerify(T alg, Password password, D digest) {
+        if (alg instanceof ParallelPbeMacAlgorithm parallel && digest instanceof ParallelPasswordDigest d) {
+            // same as ParallelPbeMacAlgorithm#verify, but with lanes computed on the service thread:
+            if (!parallel.equals(d.algorithm())) return false;
+            return parallel.with(p -> p.key(password).salt(d.salt()).cost(d.cost()).lanes(d.lanes())
+                    .executor(Runnable::run)).test(d.octets());
+        }
+        return alg.verify(password, digest);
+    }
+
+    @Override
+    public Metrics metrics() {
+        return this;
+    }
+
+    @Override
+    public long accepted() {
+        return this.accepted.sum();
+    }
+
+    @Override
+    public long rejected() {
+        return this.rejected.sum();
+    }
+
+    @Override
+    public long completed() {
+        return this.completed.sum();
+    }
+
+    @Override
+    public int active() {
+        return this.executor.getActiveCount();
+    }
+
+    @Override
+    public int queued() {
+        return this.executor.getQueue().size();
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdown();
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private DaemonThreadFactory(int service) {
+            this.prefix = "scrapi-password-mac-" + service + "-";
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, this.prefix + this.count.incrementAndGet());
+            t.setDaemon(true); // never prevent JVM shutdown
+            return t;
+        }
+    }
+
+    public static final class Builder implements PasswordMacService.Builder {
+
+        private static final int DEFAULT_QUEUE_CAPACITY_PER_THREAD = 16;
+
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private int queueCapacity = -1; // derived from threads unless set
+
+        @Override
+        public PasswordMacService.Builder threads(int threads) {
+            this.threads = Assert.gt(threads, 0, "threads must be > 0");
+            return this;
+        }
+
+        @Override
+        public PasswordMacService.Builder queueCapacity(int capacity) {
+            this.queueCapacity = Assert.gte(capacity, 0, "queueCapacity must be >= 0");
+            return this;
+        }
+
+        @Override
+        public PasswordMacService build() {
+            int capacity = this.queueCapacity >= 0 ? this.queueCapacity :
+                    this.threads * DEFAULT_QUEUE_CAPACITY_PER_THREAD;
+            return new DefaultPasswordMacService(this.threads, capacity);
+        }
+    }
+}
@@ -15,7 +15,6 @@
  */
 package scrapi.impl.msg;
 
-import scrapi.alg.Size;
 import scrapi.alg.Sized;
 import scrapi.impl.key.DefaultPassword;
 import scrapi.impl.key.DefaultPasswordGenerator;
@@ -24,6 +23,8 @@ import scrapi.key.Password;
 import scrapi.key.PasswordGenerator;
 import scrapi.msg.Hasher;
 import scrapi.msg.HmacAlgorithm;
+import scrapi.msg.ParallelPasswordDigest;
+import scrapi.msg.ParallelPbeMacAlgorithm;
 import scrapi.msg.PasswordDigest;
 import scrapi.msg.PasswordMacAlgorithm;
 import scrapi.msg.PbeMacAlgorithm;
@@ -34,6 +35,12 @@ import javax.crypto.Mac;
 import javax.crypto.spec.PBEParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.security.Provider;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 class DefaultPbeMacAlgorithm extends AbstractMacAlgorithm<
@@ -62,15 +69,34 @@ class DefaultPbeMacAlgorithm extends AbstractMacAlgorithm<
         return defaultIterations;
     }
 
+    private static final Duration MAX_DURATION = Duration.ofNanos(Long.MAX_VALUE);
+    private static final long CALIBRATION_SAMPLE_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long CALIBRATION_WARMUP_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final int CALIBRATION_SAMPLES = 5;
+    private static final int MAX_CALIBRATION_ITERATIONS = 1 << 30;
+
     protected final int DEFAULT_ITERATIONS;
+    private final ParallelPbeMacAlgorithm PARALLEL;
+
+    /**
+     * Measured iterations per nanosecond on this machine, {@code 0} until {@link #calibrate(Duration)} is first
+     * called.
+     */
+    private volatile double iterationsPerNanosecond;
 
     DefaultPbeMacAlgorithm(HmacAlgorithm hmacAlg) {
-        this("PBEWith" + hmacAlg.id(), null, hmacAlg.size(), defaultIterations(hmacAlg));
+        this("PBEWith" + hmacAlg.id(), null, hmacAlg, defaultIterations(hmacAlg));
     }
 
-    private DefaultPbeMacAlgorithm(String id, Provider provider, Size digestSize, int defaultIterations) {
-        super(id, provider, digestSize, DefaultPasswordGenerator::new);
+    private DefaultPbeMacAlgorithm(String id, Provider provider, HmacAlgorithm hmacAlg, int defaultIterations) {
+        super(id, provider, hmacAlg.size(), DefaultPasswordGenerator::new);
         this.DEFAULT_ITERATIONS = DefaultPassword.assertIterationsGte(defaultIterations);
+        this.PARALLEL = new DefaultParallelPbeMacAlgorithm(this, hmacAlg, this.DEFAULT_ITERATIONS);
+    }
+
+    @Override
+    public ParallelPbeMacAlgorithm parallel() {
+        return this.PARALLEL;
     }
 
     @Override
@@ -81,6 +107,114 @@ class DefaultPbeMacAlgorithm extends AbstractMacAlgorithm<
         return builder.get();
     }
 
+    @Override
+    public int calibrate(Duration target) {
+        Assert.notNull(target, "target duration cannot be null.");
+        Assert.gt(target, Duration.ZERO, "target duration must be > 0");
+        double rate = this.iterationsPerNanosecond;
+        if (rate == 0) {
+            rate = measureIterationsPerNanosecond();
+        }
+        long nanos = target.compareTo(MAX_DURATION) >= 0 ? Long.MAX_VALUE : target.toNanos();
+        double iterations = rate * nanos;
+        return (int) Math.max(DefaultPassword.MIN_ITERATIONS, Math.min(Integer.MAX_VALUE, iterations));
+    }
+
+    private synchronized double measureIterationsPerNanosecond() {
+        if (this.iterationsPerNanosecond != 0) { // another thread measured while we waited for the lock
+            return this.iterationsPerNanosecond;
+        }
+        Password password = new DefaultPassword("calibration".toCharArray());
+        byte[] salt = Bytes.random(this.DIGEST_SIZE.bytes());
+        try {
+            // Find an iteration count large enough to be timed accurately, which also starts warming up:
+            long warmup = 0;
+            int iterations = DefaultPassword.MIN_ITERATIONS;
+            long elapsed;
+            while ((elapsed = time(password, salt, iterations)) < CALIBRATION_SAMPLE_NANOS &&
+                    iterations < MAX_CALIBRATION_ITERATIONS) {
+                warmup += elapsed;
+                iterations <<= 1;
+            }
+            // Continue until the JIT has had enough time to fully optimize the PRF:
+            while (warmup < CALIBRATION_WARMUP_NANOS) {
+                warmup += time(password, salt, iterations);
+            }
+            long best = Long.MAX_VALUE; // the fastest sample is the least affected by unrelated activity
+            for (int i = 0; i < CALIBRATION_SAMPLES; i++) {
+                best = Math.min(best, time(password, salt, iterations));
+            }
+            double rate = (double) iterations / Math.max(1, best);
+            this.iterationsPerNanosecond = rate;
+            return rate;
+        } finally {
+            password.destroy();
+        }
+    }
+
+    private long time(Password password, byte[] salt, int iterations) {
+        long start = System.nanoTime();
+        with(p -> p.key(password).salt(salt).cost(iterations)).get();
+        return System.nanoTime() - start;
+    }
+
+    @Override
+    public Upgrade verifyAndUpgrade(Password password, PasswordDigest<?> stored) {
+        return verifyAndUpgrade(password, stored, this.DEFAULT_ITERATIONS, Runnable::run);
+    }
+
+    @Override
+    public Upgrade verifyAndUpgrade(Password password, PasswordDigest<?> stored, int cost, Executor executor) {
+        Assert.notNull(password, "Password cannot be null.");
+        Assert.notNull(stored, "PasswordDigest cannot be null.");
+        DefaultPassword.assertIterationsGte(cost);
+        Assert.notNull(executor, "Executor cannot be null.");
+
+        PasswordMacAlgorithm<?, ?, ?> storedAlg = stored.algorithm();
+        boolean verified;
+        if (storedAlg instanceof ParallelPbeMacAlgorithm parallel && stored instanceof ParallelPasswordDigest digest) {
+            verified = parallel.verify(password, digest);
+        } else if (storedAlg instanceof PbeMacAlgorithm pbe) {
+            @SuppressWarnings("unchecked")
+            PasswordDigest<PbeMacAlgorithm> digest = (PasswordDigest<PbeMacAlgorithm>) stored;
+            verified = pbe.verify(password, digest);
+        } else {
+            String msg = "Unsupported PasswordDigest algorithm: " + (storedAlg == null ? null : storedAlg.id());
+            throw new IllegalArgumentException(msg);
+        }
+
+        boolean costOutdated = stored.cost() < cost;
+        boolean saltOutdated = stored.salt().length < this.DIGEST_SIZE.bytes();
+        boolean algorithmOutdated = !equals(storedAlg);
+        CompletableFuture<PasswordDigest<PbeMacAlgorithm>> digest =
+                verified && (costOutdated || saltOutdated || algorithmOutdated) ?
+                        rehash(password, cost, executor) : CompletableFuture.completedFuture(null);
+        return new DefaultPbeMacUpgrade(verified, costOutdated, saltOutdated, algorithmOutdated, digest);
+    }
+
+    private CompletableFuture<PasswordDigest<PbeMacAlgorithm>> rehash(Password password, int cost, Executor executor) {
+        // copy, as the caller may destroy the password before the executor runs:
+        char[] chars = password.chars();
+        final Password copy;
+        try {
+            copy = new DefaultPassword(chars);
+        } finally {
+            Arrays.fill(chars, '\0');
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return with(p -> p.key(copy).cost(cost)).get();
+                } finally {
+                    copy.destroy();
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            copy.destroy();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj == this) return true;
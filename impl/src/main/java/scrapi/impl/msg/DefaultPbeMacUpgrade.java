@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.msg;
+
+import scrapi.msg.PasswordDigest;
+import scrapi.msg.PbeMacAlgorithm;
+
+import java.util.concurrent.CompletableFuture;
+
+final class DefaultPbeMacUpgrade implements PbeMacAlgorithm.Upgrade {
+
+    private final boolean verified;
+    private final boolean costOutdated;
+    private final boolean saltOutdated;
+    private final boolean algorithmOutdated;
+    private final CompletableFuture<PasswordDigest<PbeMacAlgorithm>> digest;
+
+    DefaultPbeMacUpgrade(boolean verified, boolean costOutdated, boolean saltOutdated, boolean algorithmOutdated,
+                         CompletableFuture<PasswordDigest<PbeMacAlgorithm>> digest) {
+        this.verified = verified;
+        this.costOutdated = costOutdated;
+        this.saltOutdated = saltOutdated;
+        this.algorithmOutdated = algorithmOutdated;
+        this.digest = digest;
+    }
+
+    @Override
+    public boolean verified() {
+        return this.verified;
+    }
+
+    @Override
+    public boolean costOutdated() {
+        return this.costOutdated;
+    }
+
+    @Override
+    public boolean saltOutdated() {
+        return this.saltOutdated;
+    }
+
+    @Override
+    public boolean algorithmOutdated() {
+        return this.algorithmOutdated;
+    }
+
+    @Override
+    public CompletableFuture<PasswordDigest<PbeMacAlgorithm>> digest() {
+        return this.digest;
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.msg;
+
+import scrapi.impl.key.DefaultPassword;
+import scrapi.key.Password;
+import scrapi.msg.Hasher;
+import scrapi.msg.ParallelPasswordDigest;
+import scrapi.msg.ParallelPbeMacAlgorithm;
+import scrapi.msg.PasswordDigest;
+import scrapi.msg.PasswordMacAlgorithm;
+import scrapi.msg.PbeMacAlgorithm;
+import scrapi.msg.PhcCodec;
+import scrapi.util.Assert;
+import scrapi.util.Collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+public final class DefaultPhcCodec implements PhcCodec {
+
+    public static final DefaultPhcCodec INSTANCE = new DefaultPhcCodec();
+
+    private static final char SEPARATOR = '$';
+    private static final char PARAM_SEPARATOR = ',';
+    private static final String COST_PARAM = "i=";
+    private static final String LANES_PARAM = "l=";
+    private static final int MAX_DIGEST_BYTES = 64; // SHA-512
+
+    /**
+     * Returns the PHC identifier of the specified algorithm id, e.g. {@code PBEWithHmacSHA512/256} becomes
+     * {@code pbe-hmac-sha512-256} and {@code PBEWithHmacSHA256/PARALLEL} becomes {@code pbe-hmac-sha256-parallel}.
+     */
+    static String phcId(String algId) {
+        return algId.toLowerCase(Locale.ROOT).replace("pbewithhmac", "pbe-hmac-").replace('/', '-');
+    }
+
+    private final List<String> ids;
+    private final List<PasswordMacAlgorithm<?, ?, ?>> algs; // algs.get(i) has id ids.get(i)
+    private final ThreadLocal<byte[]> digestBuffer = ThreadLocal.withInitial(() -> new byte[MAX_DIGEST_BYTES]);
+
+    private DefaultPhcCodec() {
+        List<String> ids = new ArrayList<>();
+        List<PasswordMacAlgorithm<?, ?, ?>> algs = new ArrayList<>();
+        for (PbeMacAlgorithm alg : PbeMacAlgorithm.registry().values()) {
+            ids.add(phcId(alg.id()));
+            algs.add(alg);
+            ids.add(phcId(alg.parallel().id()));
+            algs.add(alg.parallel());
+        }
+        this.ids = Collections.immutable(ids);
+        this.algs = Collections.immutable(algs);
+    }
+
+    private static IllegalArgumentException invalid(String reason) {
+        return new IllegalArgumentException("Invalid PHC string: " + reason);
+    }
+
+    @Override
+    public String encode(PasswordDigest<?> digest) {
+        Assert.notNull(digest, "PasswordDigest cannot be null.");
+        PasswordMacAlgorithm<?, ?, ?> alg = digest.algorithm();
+        String id = phcId(Assert.notNull(alg, "PasswordDigest algorithm cannot be null.").id());
+        int i = this.ids.indexOf(id);
+        if (i < 0 || !this.algs.get(i).equals(alg)) {
+            throw new IllegalArgumentException("Unsupported PHC string algorithm: " + alg.id());
+        }
+        byte[] salt = digest.salt();
+        byte[] octets = digest.octets();
+        StringBuilder sb = new StringBuilder(id.length() + 32 +
+                PhcBase64.encodedLength(salt.length) + PhcBase64.encodedLength(octets.length));
+        sb.append(SEPARATOR).append(id).append(SEPARATOR).append(COST_PARAM).append(digest.cost());
+        if (alg instanceof ParallelPbeMacAlgorithm) {
+            int lanes = Assert.isInstance(ParallelPasswordDigest.class, digest,
+                    "Parallel PBE digests must be ParallelPasswordDigest instances.").lanes();
+            sb.append(PARAM_SEPARATOR).append(LANES_PARAM).append(lanes);
+        }
+        sb.append(SEPARATOR);
+        PhcBase64.encode(salt, sb).append(SEPARATOR);
+        return PhcBase64.encode(octets, sb).toString();
+    }
+
+    @Override
+    public PhcString parse(CharSequence phc) {
+        Fields fields = new Fields(phc);
+        byte[] octets = new byte[fields.digestLength];
+        PhcBase64.decode(phc, fields.digestStart, phc.length(), octets, 0);
+        return new DefaultPhcString(fields, octets);
+    }
+
+    @Override
+    public boolean verify(CharSequence phc, Password password) {
+        Assert.notNull(password, "Password cannot be null.");
+        Fields fields = new Fields(phc);
+        byte[] expected = this.digestBuffer.get();
+        try {
+            int len = PhcBase64.decode(phc, fields.digestStart, phc.length(), expected, 0);
+            return hasher(fields, password).test(expected, 0, len);
+        } finally {
+            Arrays.fill(expected, (byte) 0);
+        }
+    }
+
+    private static Hasher<? extends PasswordDigest<?>> hasher(Fields fields, Password password) {
+        Assert.notNull(password, "Password cannot be null.");
+        final byte[] salt = fields.salt;
+        final int cost = fields.cost;
+        if (fields.alg instanceof ParallelPbeMacAlgorithm parallel) {
+            final int lanes = fields.lanes;
+            return parallel.with(p -> p.key(password).salt(salt).cost(cost).lanes(lanes));
+        }
+        return ((PbeMacAlgorithm) fields.alg).with(p -> p.key(password).salt(salt).cost(cost));
+    }
+
+    /**
+     * The parsed fields of a PHC string, except for the digest itself, which is decoded separately so it may be
+     * decoded into a reusable buffer.
+     */
+    private final class Fields {
+
+        private final PasswordMacAlgorithm<?, ?, ?> alg;
+        private final int cost;
+        private final int lanes; // 0 if not a parallel algorithm
+        private final byte[] salt;
+        private final int digestStart;
+        private final int digestLength;
+
+        private Fields(CharSequence s) {
+            Assert.notNull(s, "PHC string cannot be null.");
+            int len = s.length();
+            if (len == 0 || s.charAt(0) != SEPARATOR) throw invalid("must begin with '" + SEPARATOR + "'.");
+
+            int idEnd = indexOf(s, SEPARATOR, 1);
+            this.alg = algorithm(s, 1, idEnd);
+
+            // parameters:
+            int paramsEnd = indexOf(s, SEPARATOR, idEnd + 1);
+            int costEnd = indexOf(s, PARAM_SEPARATOR, idEnd + 1, paramsEnd);
+            this.cost = param(s, COST_PARAM, idEnd + 1, costEnd);
+            DefaultPassword.assertIterationsGte(this.cost);
+            if (this.alg instanceof ParallelPbeMacAlgorithm) {
+                if (costEnd == paramsEnd) throw invalid("missing '" + LANES_PARAM + "' parameter.");
+                this.lanes = DefaultParallelPbeMacAlgorithm.assertLanes(param(s, LANES_PARAM, costEnd + 1, paramsEnd));
+            } else {
+                if (costEnd != paramsEnd) throw invalid("unexpected parameters.");
+                this.lanes = 0;
+            }
+
+            int saltEnd = indexOf(s, SEPARATOR, paramsEnd + 1);
+            if (saltEnd == paramsEnd + 1) throw invalid("missing salt.");
+            this.salt = new byte[PhcBase64.decodedLength(saltEnd - paramsEnd - 1)];
+            PhcBase64.decode(s, paramsEnd + 1, saltEnd, this.salt, 0);
+
+            this.digestStart = saltEnd + 1;
+            this.digestLength = PhcBase64.decodedLength(len - this.digestStart);
+            if (this.digestLength != this.alg.size().bytes()) {
+                throw invalid("digest length does not match " + this.alg.id() + " digest size.");
+            }
+        }
+
+        private int indexOf(CharSequence s, char c, int start) {
+            int end = s.length();
+            int i = indexOf(s, c, start, end);
+            if (i == end) throw invalid("missing '" + c + "' separator.");
+            return i;
+        }
+
+        private int indexOf(CharSequence s, char c, int start, int end) {
+            for (int i = start; i < end; i++) {
+                if (s.charAt(i) == c) return i;
+            }
+            return end;
+        }
+
+        private PasswordMacAlgorithm<?, ?, ?> algorithm(CharSequence s, int start, int end) {
+            int len = end - start;
+            for (int i = 0; i < ids.size(); i++) {
+                String id = ids.get(i);
+                if (id.length() == len && regionMatches(s, start, id)) {
+                    return algs.get(i);
+                }
+            }
+            throw invalid("unsupported algorithm.");
+        }
+
+        private boolean regionMatches(CharSequence s, int start, String id) {
+            for (int i = 0; i < id.length(); i++) {
+                if (s.charAt(start + i) != id.charAt(i)) return false;
+            }
+            return true;
+        }
+
+        private int param(CharSequence s, String name, int start, int end) {
+            int valueStart = start + name.length();
+            if (end - start < name.length() || !regionMatches(s, start, name) || valueStart == end) {
+                throw invalid("expected '" + name + "<value>' parameter.");
+            }
+            if (s.charAt(valueStart) == '0' && end - valueStart > 1) {
+                throw invalid("'" + name + "' parameter value cannot have leading zeros.");
+            }
+            long value = 0;
+            for (int i = valueStart; i < end; i++) {
+                char c = s.charAt(i);
+                if (c < '0' || c > '9') throw invalid("'" + name + "' parameter value must be a decimal integer.");
+                value = value * 10 + (c - '0');
+                if (value > Integer.MAX_VALUE) throw invalid("'" + name + "' parameter value is too large.");
+            }
+            return (int) value;
+        }
+    }
+
+    private final class DefaultPhcString implements PhcString {
+
+        private final Fields fields;
+        private final byte[] octets;
+
+        private DefaultPhcString(Fields fields, byte[] octets) {
+            this.fields = fields;
+            this.octets = octets;
+        }
+
+        @Override
+        public PasswordMacAlgorithm<?, ?, ?> algorithm() {
+            return this.fields.alg;
+        }
+
+        @Override
+        public PasswordDigest<?> digest() {
+            byte[] salt = this.fields.salt.clone();
+            byte[] octets = this.octets.clone();
+            if (this.fields.alg instanceof ParallelPbeMacAlgorithm parallel) {
+                return new DefaultParallelPasswordDigest(parallel, octets, salt, this.fields.cost, this.fields.lanes);
+            }
+            return new DefaultPasswordDigest<>((PbeMacAlgorithm) this.fields.alg, octets, salt, this.fields.cost);
+        }
+
+        @Override
+        public Hasher<? extends PasswordDigest<?>> hasher(Password password) {
+            return DefaultPhcCodec.hasher(this.fields, password);
+        }
+
+        @Override
+        public boolean verify(Password password) {
+            return hasher(password).test(this.octets);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.msg;
+
+import scrapi.impl.alg.AbstractAlgorithm;
+import scrapi.impl.key.DefaultRsaPrivateKeyGenerator;
+import scrapi.impl.key.KeyableSupport;
+import scrapi.key.RsaPrivateKey;
+import scrapi.key.RsaPublicKey;
+import scrapi.msg.Digest;
+import scrapi.msg.HashAlgorithm;
+import scrapi.msg.MessageException;
+import scrapi.msg.RsaSignatureAlgorithm;
+import scrapi.msg.SignatureAlgorithm;
+import scrapi.msg.Signature;
+import scrapi.msg.Signer;
+import scrapi.msg.Verifier;
+import scrapi.util.Assert;
+
+import java.io.ByteArrayOutputStream;
+import java.security.SignatureException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+final class DefaultRsaSignatureAlgorithm extends AbstractAlgorithm implements RsaSignatureAlgorithm<
+        DefaultRsaSignatureAlgorithm.SignerParams,
+        DefaultVerifierBuilder<RsaPublicKey>,
+        DefaultRsaPrivateKeyGenerator> {
+
+    // RSASSA-PKCS1-v1_5 over a caller-supplied DigestInfo, i.e. no hashing by the JCA:
+    private static final String PREHASHED_ID = "NONEwithRSA";
+
+    private static final byte[] SHA1_OID = {0x2B, 0x0E, 0x03, 0x02, 0x1A}; // 1.3.14.3.2.26
+
+    // 2.16.840.1.101.3.4.2 (NIST hash algorithms) DER encoding, without the final arc:
+    private static final byte[] NIST_HASH_OID_PREFIX = {0x60, (byte) 0x86, 0x48, 0x01, 0x65, 0x03, 0x04, 0x02};
+
+    private static String rsaId(HashAlgorithm alg) {
+        return AbstractMacAlgorithm.suffix(alg) + "withRSA";
+    }
+
+    private static byte[] nistHashOid(int arc) {
+        byte[] oid = Arrays.copyOf(NIST_HASH_OID_PREFIX, NIST_HASH_OID_PREFIX.length + 1);
+        oid[oid.length - 1] = (byte) arc;
+        return oid;
+    }
+
+    private static byte[] hashOid(HashAlgorithm alg) {
+        return switch (alg.id()) {
+            case "SHA-1" -> SHA1_OID;
+            case "SHA-256" -> nistHashOid(1);
+            case "SHA-384" -> nistHashOid(2);
+            case "SHA-512" -> nistHashOid(3);
+            case "SHA-224" -> nistHashOid(4);
+            case "SHA-512/224" -> nistHashOid(5);
+            case "SHA-512/256" -> nistHashOid(6);
+            case "SHA3-224" -> nistHashOid(7);
+            case "SHA3-256" -> nistHashOid(8);
+            case "SHA3-384" -> nistHashOid(9);
+            case "SHA3-512" -> nistHashOid(10);
+            default -> throw new IllegalArgumentException("Unsupported RSA signature hash algorithm: " + alg.id());
+        };
+    }
+
+    /**
+     * Returns the DER encoding of a PKCS #1 v1.5 {@code DigestInfo} for the specified hash algorithm, minus the
+     * trailing digest octets (<a href="https://www.rfc-editor.org/rfc/rfc8017#section-9.2">RFC 8017, Section
+     * 9.2</a>):
+     * <pre>
+     * DigestInfo ::= SEQUENCE {
+     *     digestAlgorithm AlgorithmIdentifier, -- SEQUENCE { OID, NULL }
+     *     digest OCTET STRING
+     * }</pre>
+     * <p>All supported lengths are less than 128, so DER short-form lengths suffice.</p>
+     *
+     * @param alg the hash algorithm
+     * @return the DER {@code DigestInfo} prefix for the specified hash algorithm.
+     */
+    static byte[] digestInfoPrefix(HashAlgorithm alg) {
+        byte[] oid = hashOid(alg);
+        int digestLen = alg.size().bytes();
+        int algIdLen = 2 + oid.length + 2; // OID tag+length+value, NULL tag+length
+        int digestInfoLen = 2 + algIdLen + 2 + digestLen; // AlgorithmIdentifier SEQUENCE, OCTET STRING
+        ByteArrayOutputStream out = new ByteArrayOutputStream(2 + digestInfoLen - digestLen);
+        out.write(0x30); // SEQUENCE
+        out.write(digestInfoLen);
+        out.write(0x30); // SEQUENCE
+        out.write(algIdLen);
+        out.write(0x06); // OBJECT IDENTIFIER
+        out.write(oid.length);
+        out.writeBytes(oid);
+        out.write(0x05); // NULL
+        out.write(0x00);
+        out.write(0x04); // OCTET STRING
+        out.write(digestLen);
+        return out.toByteArray();
+    }
+
+    private final HashAlgorithm HASH_ALG;
+    private final byte[] DIGEST_INFO_PREFIX;
+
+    DefaultRsaSignatureAlgorithm(HashAlgorithm hashAlg) {
+        super(rsaId(Assert.notNull(hashAlg, "HashAlgorithm cannot be null.")), null);
+        this.HASH_ALG = hashAlg;
+        this.DIGEST_INFO_PREFIX = digestInfoPrefix(hashAlg);
+    }
+
+    @Override
+    public HashAlgorithm hashAlgorithm() {
+        return this.HASH_ALG;
+    }
+
+    private byte[] digestInfoOctets(Digest<HashAlgorithm> digest) {
+        Assert.notNull(digest, "Digest cannot be null.");
+        HashAlgorithm alg = digest.algorithm();
+        if (!this.HASH_ALG.equals(alg)) {
+            String msg = this.ID + " digests must be computed with " + this.HASH_ALG.id() + ", not " +
+                    (alg != null ? alg.id() : null) + ".";
+            throw new IllegalArgumentException(msg);
+        }
+        byte[] octets = digest.octets();
+        if (octets == null || octets.length != this.HASH_ALG.size().bytes()) {
+            String msg = this.HASH_ALG.id() + " digests must be " + this.HASH_ALG.size().bytes() + " bytes long.";
+            throw new IllegalArgumentException(msg);
+        }
+        byte[] digestInfo = Arrays.copyOf(this.DIGEST_INFO_PREFIX, this.DIGEST_INFO_PREFIX.length + octets.length);
+        System.arraycopy(octets, 0, digestInfo, this.DIGEST_INFO_PREFIX.length, octets.length);
+        return digestInfo;
+    }
+
+    @Override
+    public Signature<RsaSignatureAlgorithm<SignerParams, DefaultVerifierBuilder<RsaPublicKey>, DefaultRsaPrivateKeyGenerator>> sign(RsaPrivateKey priv, Digest<HashAlgorithm> digest) {
+        byte[] digestInfo = digestInfoOctets(digest);
+        JcaSignatureSource source = new JcaSignatureSource(PREHASHED_ID, this.PROVIDER, null, priv);
+        java.security.Signature sig = source.borrow();
+        try {
+            sig.update(digestInfo);
+            return new DefaultSigner.DefaultSignature<>(this, sig.sign());
+        } catch (SignatureException e) {
+            String msg = "Unable to produce signature: " + e.getMessage();
+            throw new MessageException(msg, e);
+        } finally {
+            source.release(sig);
+        }
+    }
+
+    @Override
+    public boolean verify(RsaPublicKey pub, Digest<HashAlgorithm> digest, byte[] signature) {
+        byte[] digestInfo = digestInfoOctets(digest);
+        Assert.notNull(signature, "Signature cannot be null.");
+        JcaSignatureSource source = new JcaSignatureSource(PREHASHED_ID, this.PROVIDER, null, pub);
+        java.security.Signature sig = source.borrow();
+        try {
+            sig.update(digestInfo);
+            return sig.verify(signature);
+        } catch (SignatureException e) {
+            String msg = "Unable to verify signature: " + e.getMessage();
+            throw new MessageException(msg, e);
+        } finally {
+            source.release(sig);
+        }
+    }
+
+    @Override
+    public Signer<RsaSignatureAlgorithm<SignerParams, DefaultVerifierBuilder<RsaPublicKey>, DefaultRsaPrivateKeyGenerator>> with(Consumer<SignerParams> p) {
+        SignerParams params = new SignerParams(this).provider(this.PROVIDER);
+        p.accept(params);
+        return params.get();
+    }
+
+    @Override
+    public Verifier verifier(Consumer<DefaultVerifierBuilder<RsaPublicKey>> p) {
+        DefaultVerifierBuilder<RsaPublicKey> builder = new DefaultVerifierBuilder<RsaPublicKey>(this.ID).provider(this.PROVIDER);
+        p.accept(builder);
+        return builder.get();
+    }
+
+    @Override
+    public Supplier<Signer<RsaSignatureAlgorithm<SignerParams, DefaultVerifierBuilder<RsaPublicKey>, DefaultRsaPrivateKeyGenerator>>> prepare(RsaPrivateKey priv) {
+        JcaSignatureSource source = new JcaSignatureSource(this.ID, this.PROVIDER, null, priv);
+        return new PreparedSignatureKey<>(source, s -> new DefaultSigner<>(this, s));
+    }
+
+    @Override
+    public Supplier<Verifier> prepare(RsaPublicKey pub) {
+        JcaSignatureSource source = new JcaSignatureSource(this.ID, this.PROVIDER, null, pub);
+        return new PreparedSignatureKey<>(source, DefaultVerifier::new);
+    }
+
+    @Override
+    public DefaultRsaPrivateKeyGenerator keygen() {
+        return new DefaultRsaPrivateKeyGenerator();
+    }
+
+    @Override
+    public BitSet verifyAll(List<? extends SignedMessage<? extends RsaPublicKey>> messages, boolean failFast) {
+        return VerifyAllTask.verifyAll(key -> verifier(c -> c.key(key)), messages, failFast);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) return true;
+        return obj instanceof SignatureAlgorithm && super.equals(obj);
+    }
+
+    /**
+     * Concrete signer parameters type, necessary to terminate the otherwise self-referencing
+     * {@code RsaSignatureAlgorithm} generic signature.
+     */
+    static final class SignerParams extends KeyableSupport<RsaPrivateKey, SignerParams> {
+
+        private final DefaultRsaSignatureAlgorithm alg;
+
+        private SignerParams(DefaultRsaSignatureAlgorithm alg) {
+            super(alg.id());
+            this.alg = alg;
+        }
+
+        private Signer<RsaSignatureAlgorithm<SignerParams, DefaultVerifierBuilder<RsaPublicKey>, DefaultRsaPrivateKeyGenerator>> get() {
+            return new DefaultSigner<>(this.alg, this.provider, this.random, this.key);
+        }
+    }
+}
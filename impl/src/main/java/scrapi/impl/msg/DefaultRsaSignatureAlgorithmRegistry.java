@@ -15,7 +15,6 @@
  */
 package scrapi.impl.msg;
 
-import scrapi.impl.key.DefaultRsaPrivateKeyGenerator;
 import scrapi.impl.lang.IdentifiableRegistry;
 import scrapi.msg.HashAlgorithm;
 import scrapi.msg.RsaSignatureAlgorithm;
@@ -27,20 +26,18 @@ import java.util.List;
 
 public final class DefaultRsaSignatureAlgorithmRegistry extends IdentifiableRegistry<String, RsaSignatureAlgorithm<?, ?, ?>> {
 
-    private static RsaSignatureAlgorithm<?, ?, ?> rsa(HashAlgorithm hashAlg) {
-        String id = hashAlg.id() + "withRSA";
-        RsaSignatureAlgorithm<?, ?, ?> alg = new DefaultSignatureAlgorithm<>(id, null, DefaultRsaPrivateKeyGenerator::new);
-    }
-
     // ------------------------------------------------------------------------------------------------
     // https://docs.oracle.com/en/java/javase/21/docs/specs/security/standard-names.html#signature-algorithms
     // ------------------------------------------------------------------------------------------------
     private static List<RsaSignatureAlgorithm<?, ?, ?>> createAlgs() {
         Collection<HashAlgorithm> hashAlgs = HashAlgorithm.registry().values();
-        List<RsaSignatureAlgorithm<?, ?, ?>> algs = new ArrayList<>(hashAlgs.size() - 1); // no MD2, see below
+        List<RsaSignatureAlgorithm<?, ?, ?>> algs = new ArrayList<>(hashAlgs.size() - 2); // no MD2 or MD5, see below
         for (HashAlgorithm hashAlg : hashAlgs) {
-            RsaSignatureAlgorithm<?, ?, ?> alg = rsa(hashAlg);
-            algs.add(alg);
+
+            // MD2withRSA and MD5withRSA are JCA standard names, but are insecure and not exposed:
+            if (HashAlgorithm.MD2.equals(hashAlg) || HashAlgorithm.MD5.equals(hashAlg)) continue;
+
+            algs.add(new DefaultRsaSignatureAlgorithm(hashAlg));
         }
         return Collections.immutable(algs);
     }
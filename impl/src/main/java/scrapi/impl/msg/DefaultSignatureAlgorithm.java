@@ -26,6 +26,8 @@ import scrapi.msg.Verifier;
 import scrapi.util.Assert;
 
 import java.security.Provider;
+import java.util.BitSet;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -64,11 +66,28 @@ class DefaultSignatureAlgorithm<
         return builder.get();
     }
 
+    @Override
+    public Supplier<Signer<DefaultSignatureAlgorithm<S, V, G>>> prepare(S priv) {
+        JcaSignatureSource source = new JcaSignatureSource(this.ID, this.PROVIDER, null, priv);
+        return new PreparedSignatureKey<>(source, s -> new DefaultSigner<>(this, s));
+    }
+
+    @Override
+    public Supplier<Verifier> prepare(V pub) {
+        JcaSignatureSource source = new JcaSignatureSource(this.ID, this.PROVIDER, null, pub);
+        return new PreparedSignatureKey<>(source, DefaultVerifier::new);
+    }
+
     @Override
     public G keygen() {
         return Assert.notNull(this.SUPPLIER.get(), "KeyGenerator suppler cannot produce null generators.");
     }
 
+    @Override
+    public BitSet verifyAll(List<? extends SignedMessage<? extends V>> messages, boolean failFast) {
+        return VerifyAllTask.verifyAll(key -> verifier(c -> c.key(key)), messages, failFast);
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj == this) return true;
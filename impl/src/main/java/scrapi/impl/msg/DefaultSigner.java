@@ -37,17 +37,24 @@ class DefaultSigner<A extends SignatureAlgorithm<?, ?, ?, ?, ?, A>>
         this.alg = alg;
     }
 
+    DefaultSigner(A alg, SignatureSource source) {
+        super(source);
+        this.alg = Assert.notNull(alg, "alg must not be null.");
+    }
+
     @Override
     public Signature<A> get() {
         try {
-            return new DefaultSignature<>(this.alg, this.SIG.sign());
+            return new DefaultSignature<>(this.alg, sig().sign());
         } catch (SignatureException e) {
             String msg = "Unable to produce signature: " + e.getMessage();
             throw new MessageException(msg, e);
+        } finally {
+            release();
         }
     }
 
-    private static class DefaultSignature<A extends SignatureAlgorithm<?, ?, ?, ?, ?, A>> extends DefaultDigest<A> implements Signature<A> {
+    static class DefaultSignature<A extends SignatureAlgorithm<?, ?, ?, ?, ?, A>> extends DefaultDigest<A> implements Signature<A> {
         DefaultSignature(A algorithm, byte[] octets) {
             super(algorithm, octets);
         }
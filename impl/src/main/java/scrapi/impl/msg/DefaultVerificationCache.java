@@ -0,0 +1,246 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.msg;
+
+import scrapi.key.Keyable;
+import scrapi.key.PublicKey;
+import scrapi.lang.Destroyable;
+import scrapi.msg.HashAlgorithm;
+import scrapi.msg.SignatureAlgorithm;
+import scrapi.msg.VerificationCache;
+import scrapi.msg.Verifier;
+import scrapi.util.Assert;
+
+import java.io.Serial;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class DefaultVerificationCache implements VerificationCache, VerificationCache.Metrics {
+
+    static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+    static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+    private static final int MAX_SEGMENTS = 64;
+
+    private static boolean isDestroyed(PublicKey<?> key) {
+        return key instanceof Destroyable d && d.isDestroyed();
+    }
+
+    /**
+     * Returns the SHA-256 digest of the key's encoded form, or {@code null} if it has none, so that entries can be
+     * matched regardless of which {@code PublicKey} instance was used to verify them.
+     */
+    static byte[] encodingDigest(PublicKey<?> key) {
+        byte[] encoded = key.toJcaKey().getEncoded();
+        return encoded == null ? null : HashAlgorithm.SHA_256.get().apply(encoded).get().octets();
+    }
+
+    private final long ttlNanos;
+    private final Segment[] segments; // length is a power of two
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    DefaultVerificationCache(int maximumSize, Duration ttl) {
+        Assert.gt(maximumSize, 0, "maximumSize must be > 0");
+        Assert.notNull(ttl, "ttl cannot be null.");
+        Assert.gt(ttl, Duration.ZERO, "ttl must be > 0");
+        this.ttlNanos = ttl.compareTo(Duration.ofNanos(Long.MAX_VALUE)) >= 0 ? Long.MAX_VALUE : ttl.toNanos();
+        // one segment per processor to minimize lock contention, but never so many that maximumSize is exceeded:
+        int processors = Runtime.getRuntime().availableProcessors();
+        int count = Integer.highestOneBit(Math.min(Math.min(processors, MAX_SEGMENTS), maximumSize));
+        if (count < processors && count < MAX_SEGMENTS && count << 1 <= maximumSize) count <<= 1;
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            this.segments[i] = new Segment(maximumSize / count);
+        }
+    }
+
+    private Segment segment(EntryKey key) {
+        int h = key.hashCode();
+        return this.segments[(h ^ (h >>> 16)) & (this.segments.length - 1)];
+    }
+
+    @Override
+    public <P extends PublicKey<?>, VP extends Keyable<P, VP>> Verifier verifier(
+            SignatureAlgorithm<?, P, ?, VP, ?, ?> alg, P key) {
+        Assert.notNull(alg, "SignatureAlgorithm cannot be null.");
+        Assert.notNull(key, "PublicKey cannot be null.");
+        return new CachingVerifier(this, alg.id(), key, () -> alg.verifier(p -> p.key(key)));
+    }
+
+    /**
+     * Returns {@code true} if an unexpired entry exists for the specified key, removing it if it has expired or
+     * its public key has been destroyed, and records the hit or miss.
+     */
+    boolean contains(EntryKey key) {
+        boolean hit = segment(key).contains(key, System.nanoTime());
+        (hit ? this.hits : this.misses).increment();
+        return hit;
+    }
+
+    void put(EntryKey key, PublicKey<?> publicKey, byte[] encodingDigest) {
+        segment(key).store(key, new Entry(publicKey, encodingDigest, System.nanoTime()));
+    }
+
+    @Override
+    public void invalidate(PublicKey<?> key) {
+        if (key == null) return;
+        byte[] digest = encodingDigest(key);
+        if (digest == null) return; // never cached, see CachingVerifier
+        for (Segment segment : this.segments) {
+            synchronized (segment) {
+                segment.values().removeIf(entry -> MessageDigest.isEqual(entry.encodingDigest(), digest));
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (Segment segment : this.segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    @Override
+    public Metrics metrics() {
+        return this;
+    }
+
+    @Override
+    public long hits() {
+        return this.hits.sum();
+    }
+
+    @Override
+    public long misses() {
+        return this.misses.sum();
+    }
+
+    @Override
+    public long evictions() {
+        return this.evictions.sum();
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Segment segment : this.segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * A SHA-256 digest identifying a successfully verified (algorithm, key, message, signature) combination.
+     */
+    static final class EntryKey {
+
+        private final byte[] digest;
+        private final int hashCode;
+
+        EntryKey(byte[] digest) {
+            this.digest = digest;
+            // the digest is uniformly distributed, so any 4 bytes are a good hash code:
+            this.hashCode = (digest[0] & 0xFF) << 24 | (digest[1] & 0xFF) << 16 | (digest[2] & 0xFF) << 8 |
+                    (digest[3] & 0xFF);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof EntryKey other && Arrays.equals(this.digest, other.digest);
+        }
+    }
+
+    private record Entry(PublicKey<?> key, byte[] encodingDigest, long created) {
+    }
+
+    /**
+     * A bounded, least-recently-used map guarded by its own monitor.
+     */
+    private final class Segment extends LinkedHashMap<EntryKey, Entry> {
+
+        @Serial
+        private static final long serialVersionUID = -6437289418716930155L;
+
+        private final int capacity;
+
+        private Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        private synchronized boolean contains(EntryKey key, long now) {
+            Entry entry = get(key);
+            if (entry == null) return false;
+            if (now - entry.created() >= ttlNanos || isDestroyed(entry.key())) {
+                remove(key);
+                evictions.increment();
+                return false;
+            }
+            return true;
+        }
+
+        private synchronized void store(EntryKey key, Entry entry) {
+            super.put(key, entry);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<EntryKey, Entry> eldest) {
+            if (size() > this.capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    public static final class Builder implements VerificationCache.Builder {
+
+        private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+        private Duration ttl = DEFAULT_TTL;
+
+        @Override
+        public VerificationCache.Builder maximumSize(int size) {
+            this.maximumSize = Assert.gt(size, 0, "maximumSize must be > 0");
+            return this;
+        }
+
+        @Override
+        public VerificationCache.Builder ttl(Duration ttl) {
+            Assert.notNull(ttl, "ttl cannot be null.");
+            this.ttl = Assert.gt(ttl, Duration.ZERO, "ttl must be > 0");
+            return this;
+        }
+
+        @Override
+        public VerificationCache build() {
+            return new DefaultVerificationCache(this.maximumSize, this.ttl);
+        }
+    }
+}
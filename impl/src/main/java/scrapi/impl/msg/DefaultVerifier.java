@@ -28,13 +28,19 @@ class DefaultVerifier extends AbstractSignatureConsumer<PublicKey<?>, Verifier>
         super(id, provider, null, key);
     }
 
+    DefaultVerifier(SignatureSource source) {
+        super(source);
+    }
+
     @Override
     public boolean test(byte[] bytes) {
         try {
-            return this.SIG.verify(bytes);
+            return sig().verify(bytes);
         } catch (SignatureException e) {
             String msg = "Unable to verify signature: " + e.getMessage();
             throw new MessageException(msg, e);
+        } finally {
+            release();
         }
     }
 }
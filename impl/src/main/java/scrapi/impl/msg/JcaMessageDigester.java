@@ -18,50 +18,94 @@ package scrapi.impl.msg;
 import scrapi.impl.jca.JcaTemplate;
 import scrapi.msg.Digest;
 import scrapi.msg.HashAlgorithm;
-import scrapi.msg.Hasher;
+import scrapi.msg.MessageException;
 import scrapi.util.Assert;
 
 import java.nio.ByteBuffer;
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.Provider;
 
-class JcaMessageDigester extends AbstractMessageConsumer<Hasher<Digest<HashAlgorithm>>> implements Hasher<Digest<HashAlgorithm>> {
+class JcaMessageDigester extends AbstractHasher<Digest<HashAlgorithm>> {
 
     private final HashAlgorithm alg;
-    private final MessageDigest MD;
+    private final JcaTemplate jca;
+    private MessageDigest md; // null after being returned to the pool, re-borrowed on demand
 
     JcaMessageDigester(HashAlgorithm alg, Provider provider) {
-        this.alg = Assert.notNull(alg, "alg must not be null");
-        this.MD = new JcaTemplate(alg.id(), provider).withMessageDigest(md -> md);
+        this(alg, provider, null);
+    }
+
+    /**
+     * Creates a new instance that uses the specified {@code MessageDigest}, or borrows one from the
+     * {@link JcaTemplate} if {@code md} is {@code null}.
+     *
+     * @param alg      the hash algorithm
+     * @param provider the JCA provider, may be {@code null}
+     * @param md       the new, not-yet-used {@code MessageDigest} to use, may be {@code null}
+     */
+    JcaMessageDigester(HashAlgorithm alg, Provider provider, MessageDigest md) {
+        super(Assert.notNull(alg, "alg must not be null").size().bytes());
+        this.alg = alg;
+        this.jca = new JcaTemplate(alg.id(), provider);
+        this.md = md != null ? md : this.jca.borrowMessageDigest();
+    }
+
+    private MessageDigest md() {
+        if (this.md == null) {
+            this.md = this.jca.borrowMessageDigest();
+        }
+        return this.md;
     }
 
     @Override
     protected void doApply(byte input) {
-        this.MD.update(input);
+        md().update(input);
     }
 
     @Override
     protected void doApply(byte[] input) {
-        this.MD.update(input);
+        md().update(input);
     }
 
     @Override
     protected void doApply(byte[] input, int offset, int len) {
-        this.MD.update(input, offset, len);
+        md().update(input, offset, len);
     }
 
     @Override
     protected void doApply(ByteBuffer input) {
-        this.MD.update(input);
+        md().update(input);
     }
 
     @Override
-    public Digest<HashAlgorithm> get() {
-        return new DefaultDigest<>(this.alg, this.MD.digest());
+    protected void doReset() {
+        if (this.md != null) { // otherwise already reset and released to the pool
+            this.md.reset();
+        }
+    }
+
+    private void release() {
+        if (this.jca.release(this.md)) {
+            this.md = null;
+        }
     }
 
     @Override
-    public boolean test(byte[] bytes) {
-        return MessageDigest.isEqual(get().octets(), bytes);
+    protected void doDigest(byte[] out, int offset) {
+        try {
+            md().digest(out, offset, this.DIGEST_LENGTH);
+        } catch (DigestException e) {
+            String msg = "Unable to compute " + this.alg.id() + " digest: " + e.getMessage();
+            throw new MessageException(msg, e);
+        }
+        release();
+    }
+
+    @Override
+    public Digest<HashAlgorithm> get() {
+        byte[] digest = md().digest();
+        release();
+        return new DefaultDigest<>(this.alg, digest);
     }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.msg;
+
+import scrapi.impl.jca.JcaTemplate;
+import scrapi.key.AsymmetricKey;
+import scrapi.key.PrivateKey;
+import scrapi.key.PublicKey;
+import scrapi.lang.CheckedFunction;
+import scrapi.msg.MessageException;
+import scrapi.util.Assert;
+
+import java.security.Provider;
+import java.security.SecureRandom;
+import java.security.Signature;
+
+/**
+ * A {@link SignatureSource} that obtains a {@code Signature} via a {@link JcaTemplate} (and therefore the
+ * {@link scrapi.impl.jca.JcaEnginePool JcaEnginePool} if pooling is enabled), initializing it with the key on
+ * every borrow.
+ */
+final class JcaSignatureSource implements SignatureSource {
+
+    private final JcaTemplate jca;
+    private final CheckedFunction<Signature, Signature> init;
+
+    JcaSignatureSource(String id, Provider provider, final SecureRandom random, final AsymmetricKey<?> key) {
+        Assert.notNull(key, "Key cannot be null.");
+        this.jca = new JcaTemplate(id, provider, random);
+        this.init = sig -> {
+            if (key instanceof PrivateKey<?, ?> priv) {
+                sig.initSign(priv.toJcaKey(), random);
+            } else if (key instanceof PublicKey<?> pub) {
+                sig.initVerify(pub.toJcaKey());
+            } else {
+                String msg = "Unsupported with type: " + key.getClass().getName();
+                throw new IllegalArgumentException(msg);
+            }
+            return sig;
+        };
+    }
+
+    @Override
+    public Signature borrow() {
+        return this.jca.borrowSignature(this.init);
+    }
+
+    /**
+     * Returns a new initialized {@code Signature}, never one from the pool.
+     *
+     * @return a new initialized {@code Signature}.
+     */
+    Signature newSignature() {
+        return this.jca.withSignature(this.init);
+    }
+
+    @Override
+    public boolean release(Signature sig) {
+        return this.jca.release(sig);
+    }
+
+    @Override
+    public void reset(Signature sig) {
+        try {
+            this.init.apply(sig);
+        } catch (Throwable t) {
+            String msg = "Unable to reset " + Signature.class.getName() + ": " + t.getMessage();
+            throw new MessageException(msg, t);
+        }
+    }
+}
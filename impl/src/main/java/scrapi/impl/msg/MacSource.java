@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.msg;
+
+import javax.crypto.Mac;
+
+/**
+ * Source of initialized {@code Mac} instances for an {@link AbstractMacHasher}.  A hasher borrows a {@code Mac}
+ * when it needs one, and offers it back after each {@code doFinal} so it may be reused by a later computation.
+ */
+interface MacSource {
+
+    /**
+     * Returns an initialized {@code Mac} ready for use.
+     *
+     * @return an initialized {@code Mac} ready for use.
+     */
+    Mac borrow();
+
+    /**
+     * Offers the specified (already reset) {@code Mac} back to this source.
+     *
+     * @param mac the {@code Mac} to release
+     * @return {@code true} if the source assumed ownership of the instance and the caller must no longer use it,
+     * {@code false} if the caller may continue to use it.
+     */
+    boolean release(Mac mac);
+}
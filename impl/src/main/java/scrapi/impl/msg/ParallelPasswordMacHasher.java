@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.msg;
+
+import scrapi.impl.key.DefaultPassword;
+import scrapi.msg.ParallelPasswordDigest;
+import scrapi.msg.ParallelPbeMacAlgorithm;
+import scrapi.util.Assert;
+
+import javax.crypto.Mac;
+
+class ParallelPasswordMacHasher extends AbstractMacHasher<ParallelPasswordDigest, ParallelPbeMacAlgorithm> {
+
+    private final byte[] salt;
+    private final int cost;
+    private final int lanes;
+
+    ParallelPasswordMacHasher(ParallelPbeMacAlgorithm alg, Mac mac, byte[] salt, int cost, int lanes) {
+        super(alg, mac);
+        this.salt = Assert.notNull(salt, "Salt must not be null");
+        this.cost = DefaultPassword.assertIterationsGte(cost);
+        this.lanes = DefaultParallelPbeMacAlgorithm.assertLanes(lanes);
+    }
+
+    @Override
+    public ParallelPasswordDigest get() {
+        return new DefaultParallelPasswordDigest(this.alg, doFinal(), this.salt, this.cost, this.lanes);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.msg;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The unpadded standard Base64 encoding required by the
+ * <a href="https://github.com/P-H-C/phc-string-format/blob/master/phc-sf-spec.md#argon2-encoding">PHC string
+ * format</a>, operating on {@code CharSequence} ranges and caller-provided buffers so that encoded strings can be
+ * decoded without substring or intermediate array allocation.
+ */
+final class PhcBase64 {
+
+    private static final char[] ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+    private static final byte[] VALUES = new byte[128];
+
+    static {
+        Arrays.fill(VALUES, (byte) -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            VALUES[ALPHABET[i]] = (byte) i;
+        }
+    }
+
+    private PhcBase64() {
+    }
+
+    static int encodedLength(int byteCount) {
+        int remainder = byteCount % 3;
+        return (byteCount / 3) * 4 + (remainder == 0 ? 0 : remainder + 1);
+    }
+
+    static int decodedLength(int charCount) {
+        int remainder = charCount & 3;
+        if (remainder == 1) {
+            throw new IllegalArgumentException("Invalid Base64 length: " + charCount);
+        }
+        return (charCount >>> 2) * 3 + (remainder == 0 ? 0 : remainder - 1);
+    }
+
+    static StringBuilder encode(byte[] src, StringBuilder sb) {
+        int i = 0;
+        int whole = src.length - src.length % 3;
+        while (i < whole) {
+            int bits = (src[i++] & 0xFF) << 16 | (src[i++] & 0xFF) << 8 | (src[i++] & 0xFF);
+            sb.append(ALPHABET[bits >>> 18]).append(ALPHABET[(bits >>> 12) & 0x3F])
+                    .append(ALPHABET[(bits >>> 6) & 0x3F]).append(ALPHABET[bits & 0x3F]);
+        }
+        int remainder = src.length - whole;
+        if (remainder == 1) {
+            int bits = (src[i] & 0xFF) << 4;
+            sb.append(ALPHABET[bits >>> 6]).append(ALPHABET[bits & 0x3F]);
+        } else if (remainder == 2) {
+            int bits = ((src[i] & 0xFF) << 8 | (src[i + 1] & 0xFF)) << 2;
+            sb.append(ALPHABET[bits >>> 12]).append(ALPHABET[(bits >>> 6) & 0x3F]).append(ALPHABET[bits & 0x3F]);
+        }
+        return sb;
+    }
+
+    private static int value(CharSequence src, int index) {
+        char c = src.charAt(index);
+        int value = c < VALUES.length ? VALUES[c] : -1;
+        if (value < 0) {
+            throw new IllegalArgumentException("Invalid Base64 character at index " + index);
+        }
+        return value;
+    }
+
+    /**
+     * Decodes the Base64 characters of {@code src} from {@code start} (inclusive) to {@code end} (exclusive) into
+     * {@code dst} starting at {@code offset}, and returns the number of bytes written.
+     *
+     * @throws IllegalArgumentException  if the characters are not valid unpadded Base64, including non-zero
+     *                                   unused trailing bits as required by the PHC string format.
+     * @throws IndexOutOfBoundsException if {@code dst} is too small.
+     */
+    static int decode(CharSequence src, int start, int end, byte[] dst, int offset) {
+        int len = decodedLength(end - start);
+        Objects.checkFromIndexSize(offset, len, dst.length);
+        int i = start;
+        int o = offset;
+        int whole = end - ((end - start) & 3);
+        while (i < whole) {
+            int bits = value(src, i) << 18 | value(src, i + 1) << 12 | value(src, i + 2) << 6 | value(src, i + 3);
+            dst[o++] = (byte) (bits >>> 16);
+            dst[o++] = (byte) (bits >>> 8);
+            dst[o++] = (byte) bits;
+            i += 4;
+        }
+        int remainder = end - whole;
+        if (remainder == 2) {
+            int bits = value(src, i) << 6 | value(src, i + 1);
+            if ((bits & 0xF) != 0) throw new IllegalArgumentException("Non-canonical Base64 trailing bits.");
+            dst[o++] = (byte) (bits >>> 4);
+        } else if (remainder == 3) {
+            int bits = value(src, i) << 12 | value(src, i + 1) << 6 | value(src, i + 2);
+            if ((bits & 0x3) != 0) throw new IllegalArgumentException("Non-canonical Base64 trailing bits.");
+            dst[o++] = (byte) (bits >>> 10);
+            dst[o++] = (byte) (bits >>> 2);
+        }
+        return o - offset;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.msg;
+
+import scrapi.impl.jca.JcaTemplate;
+import scrapi.key.SymmetricKey;
+import scrapi.lang.CheckedFunction;
+import scrapi.msg.Digest;
+import scrapi.msg.Hasher;
+import scrapi.msg.MacAlgorithm;
+import scrapi.util.Assert;
+
+import javax.crypto.Mac;
+import java.security.Provider;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * A MAC key bound to an initialized prototype {@code Mac}.  Initializing a {@code Mac} with a key is relatively
+ * expensive (e.g. HMAC derives its inner and outer padded key blocks), so this is done exactly once, and every
+ * {@code Mac} handed out afterwards is a clone of the initialized prototype.
+ *
+ * <p>Each thread caches one such clone.  Hashers obtained via {@link #get()} borrow the calling thread's cached
+ * {@code Mac} if it is not already in use (or clone a new one if it is), and return it after each
+ * {@code get()}, where it has already been reset by {@code doFinal}.  The prototype itself is never updated,
+ * so concurrent clones are safe, and instances of this class may be freely shared across threads.</p>
+ *
+ * <p>If the provider's {@code Mac} does not support cloning, every borrow falls back to initializing a new
+ * {@code Mac} with the key, equivalent to {@code alg.with(key)}.</p>
+ *
+ * @param <A> the type of MAC algorithm
+ */
+final class PreparedMacKey<A extends MacAlgorithm<?, ?, ?, Digest<A>, ?>> implements Supplier<Hasher<Digest<A>>> {
+
+    private final A alg;
+    private final ThreadLocal<Slot> slots;
+
+    PreparedMacKey(A alg, Provider provider, SymmetricKey key) {
+        this.alg = Assert.notNull(alg, "alg must not be null.");
+        Assert.notNull(key, "MAC key cannot be null.");
+        final javax.crypto.SecretKey jcaKey = Assert.notNull(key.toJcaKey(), AbstractMacHasher.JCA_KEY_NOT_NULL);
+        final Prototype prototype = new Prototype(alg.id(), new JcaTemplate(alg.id(), provider), mac -> {
+            mac.init(jcaKey);
+            return mac;
+        });
+        // Slots must not reference this instance, otherwise the ThreadLocal could never be collected:
+        this.slots = ThreadLocal.withInitial(() -> new Slot(prototype));
+    }
+
+    @Override
+    public Hasher<Digest<A>> get() {
+        return new DefaultMacHasher<>(this.alg, this.slots.get());
+    }
+
+    private static final class Prototype {
+
+        private final String id;
+        private final JcaTemplate jca;
+        private final CheckedFunction<Mac, Mac> init;
+        private final Mac MAC; // null if the provider's Mac isn't Cloneable
+
+        private Prototype(String id, JcaTemplate jca, CheckedFunction<Mac, Mac> init) {
+            this.id = id;
+            this.jca = jca;
+            this.init = init;
+            this.MAC = cloneable(jca.withMac(init));
+        }
+
+        private static Mac cloneable(Mac mac) {
+            try {
+                mac.clone(); // verify cloning is supported once, up front
+                return mac;
+            } catch (CloneNotSupportedException e) {
+                return null;
+            }
+        }
+
+        private Mac newMac() {
+            if (this.MAC != null) {
+                try {
+                    return (Mac) this.MAC.clone();
+                } catch (CloneNotSupportedException e) { // already verified in the constructor, so not expected
+                    String msg = "Unable to clone prototype " + this.id + " Mac: " + e.getMessage();
+                    throw new IllegalStateException(msg, e);
+                }
+            }
+            return this.jca.withMac(this.init);
+        }
+    }
+
+    /**
+     * A thread's cached {@code Mac}.  Borrowing empties the slot so that multiple concurrent hashers created on the
+     * same thread never share an instance; a released {@code Mac} refills the slot only if it is still empty.  The
+     * slot is atomic because a hasher may be completed on a different thread than the one that created it.
+     */
+    private static final class Slot implements MacSource {
+
+        private final Prototype prototype;
+        private final AtomicReference<Mac> cached = new AtomicReference<>();
+
+        private Slot(Prototype prototype) {
+            this.prototype = prototype;
+        }
+
+        @Override
+        public Mac borrow() {
+            Mac mac = this.cached.getAndSet(null);
+            return mac != null ? mac : this.prototype.newMac();
+        }
+
+        @Override
+        public boolean release(Mac mac) {
+            this.cached.compareAndSet(null, mac);
+            return true; // the hasher borrows again on next use, likely getting the same instance back
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.msg;
+
+import java.security.Signature;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A signing or verification key bound to initialized {@code Signature} instances.  Obtaining a {@code Signature}
+ * requires a provider lookup, and initializing it requires validating (and, depending on the provider, converting)
+ * the key, so this is done once per thread instead of for every signer or verifier.
+ *
+ * <p>Each thread caches one initialized {@code Signature}.  Consumers obtained via {@link #get()} borrow the
+ * calling thread's cached instance if it is not already in use (or initialize a new one if it is), and return it
+ * after each {@code sign} or {@code verify} call, which resets it to its initialized state for the same key.
+ * Instances of this class may be freely shared across threads.</p>
+ *
+ * @param <T> the type of consumer supplied, i.e. {@code Signer} or {@code Verifier}
+ */
+final class PreparedSignatureKey<T> implements Supplier<T> {
+
+    private final ThreadLocal<Slot> slots;
+    private final Function<SignatureSource, T> factory;
+
+    PreparedSignatureKey(JcaSignatureSource source, Function<SignatureSource, T> factory) {
+        this.factory = factory;
+        // Slots must not reference this instance, otherwise the ThreadLocal could never be collected:
+        this.slots = ThreadLocal.withInitial(() -> new Slot(source));
+    }
+
+    @Override
+    public T get() {
+        return this.factory.apply(this.slots.get());
+    }
+
+    /**
+     * A thread's cached {@code Signature}.  Borrowing empties the slot so that multiple concurrent consumers
+     * created on the same thread never share an instance; a released {@code Signature} refills the slot only if it
+     * is still empty.  The slot is atomic because a consumer may be completed on a different thread than the one
+     * that created it.
+     */
+    private static final class Slot implements SignatureSource {
+
+        private final JcaSignatureSource source;
+        private final AtomicReference<Signature> cached = new AtomicReference<>();
+
+        private Slot(JcaSignatureSource source) {
+            this.source = source;
+        }
+
+        @Override
+        public Signature borrow() {
+            Signature sig = this.cached.getAndSet(null);
+            return sig != null ? sig : this.source.newSignature();
+        }
+
+        @Override
+        public boolean release(Signature sig) {
+            if (sig == null) return false;
+            this.cached.compareAndSet(null, sig);
+            return true; // the consumer borrows again on next use, likely getting the same instance back
+        }
+
+        @Override
+        public void reset(Signature sig) {
+            this.source.reset(sig);
+        }
+    }
+}
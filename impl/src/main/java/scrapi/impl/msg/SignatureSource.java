@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.msg;
+
+import java.security.Signature;
+
+/**
+ * Source of initialized {@code Signature} instances for an {@link AbstractSignatureConsumer}.  A consumer borrows
+ * a {@code Signature} when it needs one, and offers it back after each {@code sign} or {@code verify} call (which
+ * resets it) so it may be reused by a later computation.
+ */
+interface SignatureSource {
+
+    /**
+     * Returns a {@code Signature} initialized for signing or verification, ready for use.
+     *
+     * @return a {@code Signature} initialized for signing or verification, ready for use.
+     */
+    Signature borrow();
+
+    /**
+     * Offers the specified {@code Signature}, which has just completed a {@code sign} or {@code verify} call, back
+     * to this source.
+     *
+     * @param sig the {@code Signature} to release
+     * @return {@code true} if the source assumed ownership of the instance and the caller must no longer use it,
+     * {@code false} if the caller may continue to use it.
+     */
+    boolean release(Signature sig);
+
+    /**
+     * Discards any data applied to the specified {@code Signature} by re-initializing it.  JCA {@code Signature}
+     * instances have no {@code reset()} method.
+     *
+     * @param sig the {@code Signature} to reset
+     * @throws scrapi.msg.MessageException if the instance cannot be re-initialized.
+     */
+    void reset(Signature sig);
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.msg;
+
+import scrapi.alg.Size;
+import scrapi.msg.Digest;
+import scrapi.msg.HashAlgorithm;
+import scrapi.msg.Hasher;
+import scrapi.util.Assert;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A {@link HashAlgorithm} that hashes fixed-size leaves of a message in parallel with a leaf
+ * {@code HashAlgorithm}, and combines the leaf digests into a Merkle tree.  See {@link HashAlgorithm#tree(Size)}
+ * for the exact construction.
+ */
+final class TreeHashAlgorithm extends AbstractDigestAlgorithm implements HashAlgorithm {
+
+    static final Size MIN_LEAF_SIZE = Size.bytes(1024);
+
+    static final byte LEAF_PREFIX = 0x00;
+    static final byte NODE_PREFIX = 0x01;
+
+    private static String treeId(HashAlgorithm leafAlg, Size leafSize) {
+        return leafAlg.id() + "/TREE-" + leafSize.bytes();
+    }
+
+    private static Size assertLeafSize(Size leafSize) {
+        Assert.notNull(leafSize, "leafSize cannot be null.");
+        return Assert.gte(leafSize, MIN_LEAF_SIZE, "leafSize must be at least " + MIN_LEAF_SIZE.bytes() + " bytes.");
+    }
+
+    private final HashAlgorithm LEAF_ALG;
+    private final Size LEAF_SIZE;
+
+    TreeHashAlgorithm(HashAlgorithm leafAlg, Size leafSize) {
+        super(treeId(Assert.notNull(leafAlg, "leaf HashAlgorithm cannot be null."), assertLeafSize(leafSize)),
+                null, leafAlg.size());
+        this.LEAF_ALG = leafAlg;
+        this.LEAF_SIZE = leafSize;
+    }
+
+    @Override
+    public Hasher<Digest<HashAlgorithm>> get() {
+        return new TreeHasher(this, this.LEAF_ALG, this.LEAF_SIZE.bytes(), ForkJoinPool.commonPool());
+    }
+
+    @Override
+    public HashAlgorithm tree(Size leafSize) {
+        return new TreeHashAlgorithm(this.LEAF_ALG, leafSize);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) return true;
+        return obj instanceof HashAlgorithm && super.equals(obj);
+    }
+}
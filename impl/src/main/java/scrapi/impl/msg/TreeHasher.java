@@ -0,0 +1,197 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.msg;
+
+import scrapi.msg.Digest;
+import scrapi.msg.HashAlgorithm;
+import scrapi.msg.Hasher;
+import scrapi.util.Bytes;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Hasher for a {@link TreeHashAlgorithm}.  Each full leaf is hashed asynchronously on a {@code ForkJoinPool}
+ * while more message data is applied:
+ * <ul>
+ *     <li>Leaves wholly contained in a single {@code apply} call are hashed directly from (slices of) the caller's
+ *     input without copying, and are joined before that {@code apply} call returns since the caller owns the
+ *     input.</li>
+ *     <li>Leaves assembled from smaller {@code apply} calls are copied into an owned leaf buffer, which is hashed
+ *     in the background and recycled afterwards.  At most {@code 2 * parallelism} owned leaves are in flight at
+ *     once, bounding memory use when data is applied faster than it can be hashed.</li>
+ * </ul>
+ */
+final class TreeHasher extends AbstractHasher<Digest<HashAlgorithm>> {
+
+    private record OwnedLeaf(ForkJoinTask<byte[]> task, byte[] buffer) {
+    }
+
+    private final HashAlgorithm alg;
+    private final HashAlgorithm leafAlg;
+    private final int leafSize;
+    private final ForkJoinPool pool;
+    private final int maxInFlight;
+
+    private final List<ForkJoinTask<byte[]>> leaves = new ArrayList<>(); // leaf digests, in message order
+    private final Deque<OwnedLeaf> inFlight = new ArrayDeque<>();
+    private final Deque<byte[]> free = new ArrayDeque<>(); // recycled leaf buffers
+    private byte[] partial; // current, not yet full, owned leaf buffer
+    private int partialLen;
+
+    TreeHasher(HashAlgorithm alg, HashAlgorithm leafAlg, int leafSize, ForkJoinPool pool) {
+        super(alg.size().bytes());
+        this.alg = alg;
+        this.leafAlg = leafAlg;
+        this.leafSize = leafSize;
+        this.pool = pool;
+        this.maxInFlight = Math.max(2, 2 * pool.getParallelism());
+    }
+
+    private byte[] leafDigest(ByteBuffer data) {
+        return this.leafAlg.get().apply(TreeHashAlgorithm.LEAF_PREFIX).apply(data).get().octets();
+    }
+
+    private ForkJoinTask<byte[]> submit(ByteBuffer data) {
+        ForkJoinTask<byte[]> task = this.pool.submit(() -> leafDigest(data));
+        this.leaves.add(task);
+        return task;
+    }
+
+    private void recycle(OwnedLeaf leaf) {
+        leaf.task().join();
+        this.free.push(leaf.buffer());
+    }
+
+    private void submitPartial() {
+        ForkJoinTask<byte[]> task = submit(ByteBuffer.wrap(this.partial, 0, this.leafSize));
+        this.inFlight.add(new OwnedLeaf(task, this.partial));
+        this.partial = null;
+        this.partialLen = 0;
+        while (!this.inFlight.isEmpty() &&
+                (this.inFlight.size() > this.maxInFlight || this.inFlight.peek().task().isDone())) {
+            recycle(this.inFlight.poll()); // blocks only when too many are in flight
+        }
+    }
+
+    private void ensurePartial() {
+        if (this.partial == null) {
+            this.partial = this.free.isEmpty() ? new byte[this.leafSize] : this.free.pop();
+        }
+    }
+
+    @Override
+    protected void doApply(byte input) {
+        ensurePartial();
+        this.partial[this.partialLen++] = input;
+        if (this.partialLen == this.leafSize) {
+            submitPartial();
+        }
+    }
+
+    @Override
+    protected void doApply(byte[] input) {
+        doApply(input, 0, input.length);
+    }
+
+    @Override
+    protected void doApply(byte[] input, int offset, int len) {
+        doApply(ByteBuffer.wrap(input, offset, len));
+    }
+
+    @Override
+    protected void doApply(ByteBuffer input) {
+        if (this.partialLen > 0) { // complete the current owned leaf first
+            int n = Math.min(this.leafSize - this.partialLen, input.remaining());
+            input.get(this.partial, this.partialLen, n);
+            this.partialLen += n;
+            if (this.partialLen == this.leafSize) {
+                submitPartial();
+            }
+        }
+        int first = this.leaves.size();
+        while (this.partialLen == 0 && input.remaining() >= this.leafSize) { // whole leaves: zero-copy
+            int position = input.position();
+            submit(input.slice(position, this.leafSize));
+            input.position(position + this.leafSize);
+        }
+        if (input.hasRemaining()) {
+            ensurePartial();
+            int n = input.remaining();
+            input.get(this.partial, this.partialLen, n);
+            this.partialLen += n;
+        }
+        // zero-copy leaves reference the caller's input, so they must complete before we return:
+        for (int i = first; i < this.leaves.size(); i++) {
+            this.leaves.get(i).join();
+        }
+    }
+
+    private byte[] root() {
+        List<byte[]> level = new ArrayList<>(this.leaves.size() + 1);
+        for (ForkJoinTask<byte[]> leaf : this.leaves) {
+            level.add(leaf.join());
+        }
+        if (this.partialLen > 0 || level.isEmpty()) { // last (or only, possibly empty) leaf
+            byte[] buf = this.partial != null ? this.partial : Bytes.EMPTY;
+            level.add(leafDigest(ByteBuffer.wrap(buf, 0, this.partialLen)));
+            this.partialLen = 0;
+        }
+        this.leaves.clear();
+        while (!this.inFlight.isEmpty()) {
+            recycle(this.inFlight.poll()); // already complete
+        }
+        Hasher<Digest<HashAlgorithm>> node = this.leafAlg.get();
+        while (level.size() > 1) {
+            List<byte[]> next = new ArrayList<>((level.size() + 1) / 2);
+            for (int i = 0; i < level.size(); i += 2) {
+                if (i + 1 < level.size()) {
+                    next.add(node.apply(TreeHashAlgorithm.NODE_PREFIX).apply(level.get(i)).apply(level.get(i + 1))
+                            .get().octets());
+                } else {
+                    next.add(level.get(i)); // odd node is promoted unchanged
+                }
+            }
+            level = next;
+        }
+        return level.get(0);
+    }
+
+    @Override
+    protected void doDigest(byte[] out, int offset) {
+        System.arraycopy(root(), 0, out, offset, this.DIGEST_LENGTH);
+    }
+
+    @Override
+    public Digest<HashAlgorithm> get() {
+        return new DefaultDigest<>(this.alg, root());
+    }
+
+    @Override
+    protected void doReset() {
+        for (ForkJoinTask<byte[]> leaf : this.leaves) {
+            leaf.cancel(false);
+        }
+        this.leaves.clear();
+        this.inFlight.clear(); // buffers may still be in use by running tasks, so they aren't recycled
+        this.partialLen = 0;
+    }
+}
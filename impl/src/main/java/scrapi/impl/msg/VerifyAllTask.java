@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.msg;
+
+import scrapi.key.PublicKey;
+import scrapi.msg.SignatureAlgorithm.SignedMessage;
+import scrapi.msg.Verifier;
+import scrapi.util.Assert;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * Splits a {@link scrapi.msg.SignatureAlgorithm#verifyAll(List, boolean) verifyAll} batch in halves until chunks
+ * are small enough, and verifies each chunk sequentially, reusing one verifier (and therefore one JCA engine) per
+ * public key within the chunk.
+ */
+final class VerifyAllTask<P extends PublicKey<?>> extends RecursiveAction {
+
+    @Serial
+    private static final long serialVersionUID = -2853468146305186721L;
+
+    // Signature verification is far more expensive than hashing, so much smaller batches and chunks are worth
+    // splitting than for HashAlgorithm digestAll:
+    private static final int MIN_PARALLEL_SIZE = 16;
+    private static final int MIN_CHUNK_SIZE = 4;
+
+    static <P extends PublicKey<?>> BitSet verifyAll(Function<P, Verifier> verifiers,
+                                                     List<? extends SignedMessage<? extends P>> messages,
+                                                     boolean failFast) {
+        Assert.notNull(messages, "messages cannot be null.");
+        if (!(messages instanceof RandomAccess)) {
+            messages = new ArrayList<>(messages);
+        }
+        int size = messages.size();
+        Batch<P> batch = new Batch<>(verifiers, messages, failFast);
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        if (size < MIN_PARALLEL_SIZE || pool.getParallelism() < 2) {
+            new VerifyAllTask<>(batch, 0, size, size).compute();
+        } else {
+            int chunkSize = Math.max(MIN_CHUNK_SIZE, size / (pool.getParallelism() * 4));
+            pool.invoke(new VerifyAllTask<>(batch, 0, size, chunkSize));
+        }
+        return batch.results();
+    }
+
+    /**
+     * State shared by all tasks of a single batch.
+     */
+    private static final class Batch<P extends PublicKey<?>> {
+
+        private final Function<P, Verifier> verifiers;
+        private final List<? extends SignedMessage<? extends P>> messages;
+        private final boolean failFast;
+        private final AtomicLongArray words; // result bits, BitSet.valueOf layout
+        private volatile boolean stopped;
+
+        private Batch(Function<P, Verifier> verifiers, List<? extends SignedMessage<? extends P>> messages,
+                      boolean failFast) {
+            this.verifiers = verifiers;
+            this.messages = messages;
+            this.failFast = failFast;
+            this.words = new AtomicLongArray((messages.size() + Long.SIZE - 1) / Long.SIZE);
+        }
+
+        private void set(int i) {
+            long bit = 1L << i; // shift distance is implicitly i % 64
+            this.words.getAndAccumulate(i / Long.SIZE, bit, (word, b) -> word | b);
+        }
+
+        private BitSet results() {
+            long[] words = new long[this.words.length()];
+            for (int i = 0; i < words.length; i++) {
+                words[i] = this.words.get(i);
+            }
+            return BitSet.valueOf(words);
+        }
+    }
+
+    private final Batch<P> batch;
+    private final int from;
+    private final int to;
+    private final int chunkSize;
+
+    private VerifyAllTask(Batch<P> batch, int from, int to, int chunkSize) {
+        this.batch = batch;
+        this.from = from;
+        this.to = to;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    protected void compute() {
+        if (this.to - this.from <= this.chunkSize) {
+            verifyChunk();
+            return;
+        }
+        int mid = (this.from + this.to) >>> 1;
+        invokeAll(new VerifyAllTask<>(this.batch, this.from, mid, this.chunkSize),
+                new VerifyAllTask<>(this.batch, mid, this.to, this.chunkSize));
+    }
+
+    private void verifyChunk() {
+        Map<P, Verifier> verifiers = new IdentityHashMap<>();
+        try {
+            for (int i = this.from; i < this.to && !this.batch.stopped; i++) {
+                SignedMessage<? extends P> message = this.batch.messages.get(i);
+                Assert.notNull(message, "messages cannot contain null elements.");
+                Verifier verifier = verifiers.computeIfAbsent(message.key(), this.batch.verifiers);
+                if (verifier.apply(message.message()).test(message.signature())) {
+                    this.batch.set(i);
+                } else if (this.batch.failFast) {
+                    this.batch.stopped = true;
+                }
+            }
+        } catch (RuntimeException e) {
+            this.batch.stopped = true; // the batch fails, so don't waste time verifying the rest
+            throw e;
+        }
+    }
+}
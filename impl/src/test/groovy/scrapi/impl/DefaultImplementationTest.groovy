@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl
+
+import org.junit.jupiter.api.Test
+import scrapi.impl.key.DefaultPassword
+import scrapi.impl.msg.DefaultHashAlgorithmRegistry
+import scrapi.impl.msg.DefaultHmacAlgorithmRegistry
+import scrapi.impl.msg.DefaultPbeMacAlgorithmRegistry
+import scrapi.impl.msg.DefaultRsaSignatureAlgorithmRegistry
+import scrapi.key.Password
+import scrapi.msg.HashAlgorithm
+import scrapi.msg.HmacAlgorithm
+import scrapi.msg.PbeMacAlgorithm
+import scrapi.msg.RsaSignatureAlgorithm
+import scrapi.spi.Implementation
+import scrapi.spi.Implementations
+
+import static org.junit.jupiter.api.Assertions.*
+
+class DefaultImplementationTest {
+
+    @SuppressWarnings(['GroovyAccessibility', 'GroovyResultOfObjectAllocationIgnored'])
+    @Test
+    void privateCtor() {
+        new Implementations()
+    }
+
+    @Test
+    void serviceLoaded() {
+        def impl = Implementation.instance()
+        assertTrue impl instanceof DefaultImplementation
+        assertSame impl, Implementation.instance()
+    }
+
+    @Test
+    void registries() {
+        def impl = new DefaultImplementation()
+        assertEquals new DefaultHashAlgorithmRegistry(), impl.hashAlgorithms()
+        assertEquals new DefaultHmacAlgorithmRegistry(), impl.hmacAlgorithms()
+        assertEquals new DefaultPbeMacAlgorithmRegistry(), impl.pbeMacAlgorithms()
+        assertEquals new DefaultRsaSignatureAlgorithmRegistry(), impl.rsaSignatureAlgorithms()
+        assertEquals HashAlgorithm.registry(), impl.hashAlgorithms()
+        assertEquals HmacAlgorithm.registry(), impl.hmacAlgorithms()
+        assertEquals PbeMacAlgorithm.registry(), impl.pbeMacAlgorithms()
+        assertEquals RsaSignatureAlgorithm.registry(), impl.rsaSignatureAlgorithms()
+    }
+
+    @Test
+    void password() {
+        char[] chars = 'secret'.toCharArray()
+        Password password = Password.of(chars)
+        assertTrue password instanceof DefaultPassword
+        assertArrayEquals chars, password.chars()
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl
+
+import org.junit.jupiter.api.BeforeAll
+import org.junit.jupiter.api.Test
+import sun.misc.Unsafe
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.Paths
+import java.util.jar.JarFile
+
+import static org.junit.jupiter.api.Assertions.*
+import static org.junit.jupiter.api.Assumptions.assumeTrue
+
+/**
+ * Verifies the class initialization policy in scrapi-impl's {@code native-image.properties} without GraalVM:
+ * every class covered by {@code --initialize-at-build-time} is initialized in a fresh class loader, as the image
+ * builder would, after which every initialized scrapi class must itself be covered by a build-time entry.
+ * Otherwise the image builder would initialize a run-time class during the build and fail.
+ */
+class NativeImageConfigTest {
+
+    static final String CONFIG = 'META-INF/native-image/scrapi/scrapi-impl/native-image.properties'
+
+    static List<String> buildTime
+    static List<String> runTime
+
+    @BeforeAll
+    static void parseConfig() {
+        def props = new Properties()
+        NativeImageConfigTest.classLoader.getResourceAsStream(CONFIG).withCloseable { props.load(it) }
+        def args = props.getProperty('Args').split(/\s+/)
+        buildTime = option(args, '--initialize-at-build-time=')
+        runTime = option(args, '--initialize-at-run-time=')
+    }
+
+    static List<String> option(String[] args, String prefix) {
+        String arg = args.find { it.startsWith(prefix) }
+        assertNotNull arg, "missing $prefix"
+        return arg.substring(prefix.length()).split(',').collect { it.trim() }.findAll { !it.isEmpty() }
+    }
+
+    static boolean covers(String entry, String className) {
+        return className == entry || className.startsWith(entry + '.') || className.startsWith(entry + '$')
+    }
+
+    /**
+     * Returns {@code true} if the class is initialized at build time, {@code false} if at run time, or
+     * {@code null} if unspecified.  As with native-image, the most specific matching entry wins.
+     */
+    static Boolean isBuildTime(String className) {
+        String build = buildTime.findAll { covers(it, className) }.max { it.length() }
+        String run = runTime.findAll { covers(it, className) }.max { it.length() }
+        if (build == null && run == null) return null
+        return run == null || (build != null && build.length() > run.length())
+    }
+
+    /**
+     * Returns the main (non-test) classpath roots containing scrapi classes.
+     */
+    static List<URL> roots() {
+        Set<URL> roots = new LinkedHashSet<>()
+        NativeImageConfigTest.classLoader.getResources('scrapi/').each { URL url ->
+            String s = url.toString()
+            if (s.startsWith('jar:')) {
+                roots.add(new URL(s.substring(4, s.indexOf('!/'))))
+            } else if (!s.contains('test-classes')) {
+                roots.add(Paths.get(url.toURI()).parent.toUri().toURL())
+            }
+        }
+        return roots as List<URL>
+    }
+
+    static List<String> classNames(List<URL> roots) {
+        List<String> names = []
+        roots.each { URL root ->
+            Path path = Paths.get(root.toURI())
+            if (Files.isDirectory(path)) {
+                Files.walk(path).withCloseable { stream ->
+                    stream.filter { it.toString().endsWith('.class') }.each {
+                        names.add(path.relativize(it).toString().replace(File.separatorChar, '/' as char))
+                    }
+                }
+            } else {
+                new JarFile(path.toFile()).withCloseable { jar ->
+                    jar.entries().each { if (it.name.endsWith('.class')) names.add(it.name) }
+                }
+            }
+        }
+        return names.findAll { it.startsWith('scrapi/') && !it.endsWith('module-info.class') && !it.endsWith('package-info.class') }
+                .collect { it.substring(0, it.length() - '.class'.length()).replace('/', '.') }
+    }
+
+    static Unsafe unsafe() {
+        def field = Unsafe.getDeclaredField('theUnsafe')
+        field.setAccessible(true)
+        return (Unsafe) field.get(null)
+    }
+
+    @Test
+    void entriesExist() {
+        List<String> names = classNames(roots())
+        (buildTime + runTime).each { String entry ->
+            assertTrue names.any { covers(entry, it) }, "no classes match native-image entry $entry"
+        }
+    }
+
+    @Test
+    void buildTimeInitializationOnlyInitializesBuildTimeClasses() {
+        assumeTrue Unsafe.methods.any { it.name == 'shouldBeInitialized' }, 'Unsafe.shouldBeInitialized unavailable'
+        List<URL> roots = roots()
+        List<String> names = classNames(roots)
+        assertFalse names.isEmpty()
+
+        new URLClassLoader(roots as URL[], ClassLoader.platformClassLoader).withCloseable { loader ->
+            names.findAll { isBuildTime(it) }.each { Class.forName(it, true, loader) } // simulate the image build
+
+            def unsafe = unsafe()
+            List<String> violations = names.findAll { String name ->
+                !unsafe.shouldBeInitialized(Class.forName(name, false, loader)) && !isBuildTime(name)
+            }
+            assertTrue violations.isEmpty(), "Initialized at image build time, but not declared build-time: $violations"
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.jca
+
+import org.junit.jupiter.api.Test
+import scrapi.msg.HashAlgorithm
+import scrapi.util.Bytes
+
+import java.security.MessageDigest
+
+import static org.junit.jupiter.api.Assertions.*
+
+class JcaEnginePoolTest {
+
+    @Test
+    void disabledByDefault() {
+        def pool = new JcaEnginePool(false, 1, 1)
+        def md = MessageDigest.getInstance('SHA-256')
+        assertFalse pool.offer(MessageDigest.class, 'SHA-256', null, md)
+        assertNull pool.poll(MessageDigest.class, 'SHA-256', null)
+        assertEquals 0, pool.hits()
+        assertEquals 0, pool.misses()
+        assertEquals 0, pool.evictions()
+    }
+
+    @Test
+    void hitsMissesAndEvictions() {
+        def pool = new JcaEnginePool(true, 1, 1)
+        def md = MessageDigest.getInstance('SHA-256')
+
+        assertNull pool.poll(MessageDigest.class, 'SHA-256', null)
+        assertEquals 1, pool.misses()
+
+        assertTrue pool.offer(MessageDigest.class, 'SHA-256', null, md)
+        assertTrue pool.offer(MessageDigest.class, 'SHA-256', null, MessageDigest.getInstance('SHA-256'))
+        assertEquals 1, pool.evictions() // capacity of 1, second one discarded
+
+        assertNull pool.poll(MessageDigest.class, 'SHA-384', null) // different key
+        assertSame md, pool.poll(MessageDigest.class, 'SHA-256', null)
+        assertEquals 1, pool.hits()
+        assertEquals 2, pool.misses()
+    }
+
+    @Test
+    void disablingClears() {
+        def pool = new JcaEnginePool(true, 1, 1)
+        pool.offer(MessageDigest.class, 'SHA-256', null, MessageDigest.getInstance('SHA-256'))
+        pool.setEnabled(false)
+        pool.setEnabled(true)
+        assertNull pool.poll(MessageDigest.class, 'SHA-256', null)
+    }
+
+    @Test
+    void pooledDigestsAreReset() {
+        def pool = JcaEnginePool.INSTANCE
+        boolean enabled = pool.isEnabled()
+        pool.setEnabled(true)
+        try {
+            byte[] data = Bytes.random(32)
+            byte[] expected = MessageDigest.getInstance('SHA-256').digest(data)
+            def jca = new JcaTemplate('SHA-256', null)
+            def md = jca.borrowMessageDigest()
+            md.update(Bytes.random(16))
+            assertTrue jca.release(md) // reset on release
+            long hits = pool.hits()
+            assertTrue MessageDigest.isEqual(expected, HashAlgorithm.SHA_256.get().apply(data).get().octets())
+            assertTrue pool.hits() > hits
+        } finally {
+            pool.setEnabled(enabled)
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.key
+
+import org.junit.jupiter.api.Test
+import scrapi.alg.Size
+
+import java.security.SecureRandom
+import java.security.interfaces.RSAPublicKey
+
+import static org.junit.jupiter.api.Assertions.*
+
+class RsaKeyPoolTest {
+
+    static final int BITS = 2048 // keep build times short
+
+    static void awaitDepth(RsaKeyPool pool, int depth, int bits = BITS) {
+        long deadline = System.nanoTime() + 120_000_000_000L
+        while (pool.depth(bits) < depth) {
+            assertTrue System.nanoTime() < deadline, 'timed out waiting for background key generation'
+            Thread.sleep(10)
+        }
+    }
+
+    @Test
+    void disabled() {
+        def pool = new RsaKeyPool(false, 1, 1)
+        pool.prefill(BITS)
+        assertNull pool.take(BITS)
+        assertEquals 0, pool.depth(BITS)
+        assertEquals 0, pool.fallbacks()
+    }
+
+    @Test
+    void takeOnce() {
+        def pool = new RsaKeyPool(true, 2, 1)
+        pool.prefill(BITS)
+        awaitDepth(pool, 2)
+
+        def a = pool.take(BITS)
+        def b = pool.take(BITS)
+        assertNotNull a
+        assertNotNull b
+        assertNotSame a, b
+        assertNotEquals((a.getPublic() as RSAPublicKey).getModulus(), (b.getPublic() as RSAPublicKey).getModulus())
+        assertEquals BITS, (a.getPublic() as RSAPublicKey).getModulus().bitLength()
+        assertEquals 2, pool.hits()
+
+        awaitDepth(pool, 2) // refilled after taking
+        assertEquals 0, pool.fallbacks()
+    }
+
+    @Test
+    void fallback() {
+        def pool = new RsaKeyPool(true, 1, 1)
+        assertNull pool.take(BITS) // not yet pooled, so the caller generates synchronously
+        assertEquals 1, pool.fallbacks()
+        awaitDepth(pool, 1)
+        assertNotNull pool.take(BITS)
+        assertEquals 1, pool.hits()
+    }
+
+    @Test
+    void nonStandardSizeOnlyPooledAfterPrefill() {
+        int bits = 1024 // not a standard size, and quick to generate
+        def pool = new RsaKeyPool(true, 1, 1)
+        assertNull pool.take(bits)
+        assertEquals 1, pool.fallbacks()
+        assertFalse pool.@buckets.containsKey(bits) // nothing scheduled or retained
+        pool.prefill(bits)
+        awaitDepth(pool, 1, bits)
+        assertNotNull pool.take(bits)
+        assertEquals 1, pool.hits()
+    }
+
+    @Test
+    void disableDiscards() {
+        def pool = new RsaKeyPool(true, 1, 1)
+        pool.prefill(BITS)
+        awaitDepth(pool, 1)
+        pool.setEnabled(false)
+        assertEquals 0, pool.depth(BITS)
+        assertNull pool.take(BITS)
+    }
+
+    @Test
+    void capacity() {
+        def pool = new RsaKeyPool(false, 1, 1)
+        assertThrows IllegalArgumentException, { pool.setCapacity(0) }
+        pool.setCapacity(3)
+        assertEquals 3, pool.capacity()
+        assertThrows IllegalArgumentException, { new RsaKeyPool(true, 0, 1) }
+    }
+
+    @Test
+    void generatorUsesPool() {
+        def pool = RsaKeyPool.INSTANCE
+        boolean enabled = pool.isEnabled()
+        pool.setEnabled(true)
+        try {
+            pool.prefill(BITS)
+            awaitDepth(pool, 1)
+            long hits = pool.hits()
+            def key = new DefaultRsaPrivateKeyGenerator().size(Size.bits(BITS)).get()
+            assertEquals BITS, key.size().get().bits()
+            assertEquals hits + 1, pool.hits()
+
+            // a custom random (or provider) bypasses the pool entirely:
+            long fallbacks = pool.fallbacks()
+            new DefaultRsaPrivateKeyGenerator().size(Size.bits(BITS)).random(new SecureRandom()).get()
+            assertEquals hits + 1, pool.hits()
+            assertEquals fallbacks, pool.fallbacks()
+        } finally {
+            pool.setEnabled(enabled)
+        }
+    }
+}
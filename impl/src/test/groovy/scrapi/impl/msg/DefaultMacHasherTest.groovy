@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.msg
+
+import org.junit.jupiter.api.Test
+import scrapi.impl.jca.JcaEnginePool
+import scrapi.key.OctetSecretKey
+import scrapi.msg.HmacAlgorithm
+import scrapi.util.Bytes
+
+import javax.crypto.Mac
+import java.nio.ByteBuffer
+
+import static org.junit.jupiter.api.Assertions.*
+
+class DefaultMacHasherTest {
+
+    static byte[] jca(OctetSecretKey key, byte[] data) {
+        def mac = Mac.getInstance(HmacAlgorithm.HS256.id())
+        mac.init(key.toJcaKey())
+        return mac.doFinal(data)
+    }
+
+    static void assertReusable(OctetSecretKey key) {
+        def hasher = new DefaultMacHasher<>(HmacAlgorithm.HS256, null, key)
+        3.times {
+            byte[] data = Bytes.random(32)
+            assertArrayEquals jca(key, data), hasher.apply(data).get().octets()
+        }
+        byte[] data = Bytes.random(16)
+        assertTrue hasher.apply(ByteBuffer.wrap(data)).test(jca(key, data))
+        assertArrayEquals jca(key, data), hasher.apply(data).get().octets() // reusable after test, too
+    }
+
+    @Test
+    void reusableAfterGet() {
+        assertReusable HmacAlgorithm.HS256.keygen().get()
+    }
+
+    @Test
+    void reusableAfterGetWithPool() {
+        def pool = JcaEnginePool.INSTANCE
+        boolean enabled = pool.isEnabled()
+        try {
+            pool.setEnabled(true)
+            assertReusable HmacAlgorithm.HS256.keygen().get()
+        } finally {
+            pool.setEnabled(enabled)
+        }
+    }
+
+    @Test
+    void reset() {
+        def key = HmacAlgorithm.HS256.keygen().get()
+        def hasher = new DefaultMacHasher<>(HmacAlgorithm.HS256, null, key)
+        byte[] data = Bytes.random(32)
+        assertSame hasher, hasher.apply(Bytes.random(8)).reset()
+        assertArrayEquals jca(key, data), hasher.apply(data).get().octets()
+    }
+
+    @Test
+    void resetPrepared() {
+        def key = HmacAlgorithm.HS256.keygen().get()
+        def hasher = HmacAlgorithm.HS256.prepare(key).get()
+        byte[] data = Bytes.random(32)
+        hasher.apply(Bytes.random(8)).reset()
+        assertArrayEquals jca(key, data), hasher.apply(data).get().octets()
+    }
+
+    @Test
+    void digestInto() {
+        def key = HmacAlgorithm.HS256.keygen().get()
+        def hasher = new DefaultMacHasher<>(HmacAlgorithm.HS256, null, key)
+        byte[] data = Bytes.random(32)
+        byte[] expected = jca(key, data)
+
+        byte[] out = new byte[33]
+        assertEquals 32, hasher.apply(data).digestInto(out, 1)
+        assertArrayEquals expected, Arrays.copyOfRange(out, 1, 33)
+
+        def buf = ByteBuffer.allocateDirect(32)
+        assertEquals 32, hasher.apply(data).digestInto(buf)
+        assertFalse buf.hasRemaining()
+        byte[] result = new byte[32]
+        buf.flip().get(result)
+        assertArrayEquals expected, result
+
+        assertArrayEquals expected, hasher.apply(data).get().octets() // reset after digestInto
+    }
+
+    @Test
+    void testRangeAndByteBuffer() {
+        def key = HmacAlgorithm.HS256.keygen().get()
+        def hasher = new DefaultMacHasher<>(HmacAlgorithm.HS256, null, key)
+        byte[] data = Bytes.random(32)
+        byte[] expected = jca(key, data)
+        byte[] record = Bytes.concat(Bytes.random(2), expected)
+        assertTrue hasher.apply(data).test(record, 2, 32)
+        assertFalse hasher.apply(data).test(record, 0, 32)
+        assertTrue hasher.apply(data).test(ByteBuffer.allocateDirect(32).put(expected).flip())
+        assertFalse hasher.apply(data).test(ByteBuffer.wrap(Bytes.random(32)))
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.msg
+
+import org.junit.jupiter.api.Test
+import scrapi.key.Password
+import scrapi.msg.PasswordMacService
+import scrapi.msg.PbeMacAlgorithm
+import scrapi.util.Bytes
+
+import java.util.concurrent.CompletionException
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.RejectedExecutionException
+import java.util.function.Consumer
+
+import static org.junit.jupiter.api.Assertions.*
+
+class DefaultPasswordMacServiceTest {
+
+    private static final Password PASSWORD = Password.of('correct horse battery staple'.toCharArray())
+    private static final PbeMacAlgorithm ALG = PbeMacAlgorithm.PBEHS256
+
+    @Test
+    void builder() {
+        assertTrue PasswordMacService.builder() instanceof DefaultPasswordMacService.Builder
+        assertThrows IllegalArgumentException, { PasswordMacService.builder().threads(0) }
+        assertThrows IllegalArgumentException, { PasswordMacService.builder().queueCapacity(-1) }
+    }
+
+    @Test
+    void digestAndVerify() {
+        try (def service = PasswordMacService.builder().threads(1).build()) {
+            def digest = service.digest(ALG, { it.key(PASSWORD).cost(4096) }, Bytes.EMPTY).join()
+            assertTrue ALG.verify(PASSWORD, digest)
+            assertTrue service.verify(ALG, PASSWORD, digest).join()
+            assertFalse service.verify(ALG, Password.of('wrong'.toCharArray()), digest).join()
+            assertEquals 3, service.metrics().accepted()
+            assertEquals 0, service.metrics().rejected()
+        }
+    }
+
+    @Test
+    void verifyParallel() {
+        def alg = ALG.parallel()
+        try (def service = PasswordMacService.builder().threads(1).build()) {
+            def digest = service.digest(alg, { it.key(PASSWORD).cost(8192).lanes(2) }, Bytes.EMPTY).join()
+            assertTrue service.verify(alg, PASSWORD, digest).join()
+        }
+    }
+
+    @Test
+    void parallelLanesComputedOnServiceThread() {
+        def params = null
+        try (def service = PasswordMacService.builder().threads(1).build()) {
+            def digest = service.digest(ALG.parallel(), { params = it; it.key(PASSWORD).cost(8192).lanes(2) }, Bytes.EMPTY).join()
+            assertNotSame ForkJoinPool.commonPool(), params.@executor
+            assertTrue ALG.parallel().verify(PASSWORD, digest)
+        }
+    }
+
+    @Test
+    void messageCopied() {
+        byte[] salt = Bytes.random(16)
+        byte[] message = [1, 2, 3] as byte[]
+        def started = new CountDownLatch(1)
+        def release = new CountDownLatch(1)
+        try (def service = PasswordMacService.builder().threads(1).build()) {
+            def future = service.digest(ALG, {
+                started.countDown(); release.await(); it.key(PASSWORD).salt(salt).cost(4096)
+            }, message)
+            started.await()
+            message[0] = 9 as byte
+            release.countDown()
+            Consumer configurer = { it.key(PASSWORD).salt(salt).cost(4096) }
+            assertArrayEquals ALG.with(configurer).apply([1, 2, 3] as byte[]).get().octets(), future.join().octets()
+        }
+    }
+
+    @Test
+    void verifyPasswordCopied() {
+        Consumer configurer = { it.key(PASSWORD).cost(4096) }
+        def digest = ALG.with(configurer).get()
+        def password = Password.of(PASSWORD.chars())
+        def started = new CountDownLatch(1)
+        def release = new CountDownLatch(1)
+        try (def service = PasswordMacService.builder().threads(1).build()) {
+            def busy = service.digest(ALG, { started.countDown(); release.await(); it.key(PASSWORD).cost(4096) }, Bytes.EMPTY)
+            started.await()
+            def verified = service.verify(ALG, password, digest)
+            password.destroy()
+            release.countDown()
+            busy.join()
+            assertTrue verified.join()
+        }
+    }
+
+    @Test
+    void failurePropagated() {
+        try (def service = PasswordMacService.builder().threads(1).build()) {
+            def e = assertThrows(CompletionException, { service.digest(ALG, { it.cost(4096) }, Bytes.EMPTY).join() })
+            assertInstanceOf NullPointerException, e.cause // no password
+        }
+    }
+
+    @Test
+    void rejectedWhenSaturated() {
+        def started = new CountDownLatch(1)
+        def release = new CountDownLatch(1)
+        try (def service = PasswordMacService.builder().threads(1).queueCapacity(1).build()) {
+            def busy = service.digest(ALG, { started.countDown(); release.await(); it.key(PASSWORD).cost(4096) }, Bytes.EMPTY)
+            started.await()
+            def queued = service.digest(ALG, { it.key(PASSWORD).cost(4096) }, Bytes.EMPTY)
+            assertEquals 1, service.metrics().queued()
+            def rejected = service.digest(ALG, { it.key(PASSWORD).cost(4096) }, Bytes.EMPTY)
+            assertTrue rejected.isCompletedExceptionally()
+            def e = assertThrows(CompletionException, { rejected.join() })
+            assertTrue e.cause instanceof RejectedExecutionException
+            assertEquals 1, service.metrics().rejected()
+            assertEquals 2, service.metrics().accepted()
+            release.countDown()
+            busy.join()
+            queued.join()
+        }
+    }
+
+    @Test
+    void rejectedWhenClosed() {
+        Consumer configurer = { it.key(PASSWORD).cost(4096) }
+        def digest = ALG.with(configurer).get()
+        def service = PasswordMacService.builder().threads(1).build()
+        service.close()
+        def e = assertThrows(CompletionException, { service.verify(ALG, PASSWORD, digest).join() })
+        assertTrue e.cause instanceof RejectedExecutionException
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.msg
+
+import org.junit.jupiter.api.BeforeAll
+import org.junit.jupiter.api.Test
+import scrapi.alg.Size
+import scrapi.impl.jca.JcaEnginePool
+import scrapi.key.RsaPrivateKey
+import scrapi.msg.RsaSignatureAlgorithm
+import scrapi.util.Bytes
+
+import java.nio.ByteBuffer
+import java.security.Signature
+
+import static org.junit.jupiter.api.Assertions.*
+
+class DefaultSignerTest {
+
+    static RsaPrivateKey KEY
+
+    @BeforeAll
+    static void setup() {
+        KEY = RsaSignatureAlgorithm.RS256.keygen().size(Size.bits(2048)).get() as RsaPrivateKey // keep build times short
+    }
+
+    // PKCS #1 v1.5 signatures are deterministic, so equal to JCA signatures:
+    static byte[] jca(byte[] data) {
+        def sig = Signature.getInstance(RsaSignatureAlgorithm.RS256.id())
+        sig.initSign(KEY.toJcaKey())
+        sig.update(data)
+        return sig.sign()
+    }
+
+    static void assertReusable() {
+        def signer = RsaSignatureAlgorithm.RS256.with(KEY)
+        def verifier = RsaSignatureAlgorithm.RS256.with(KEY.publicKey())
+        3.times {
+            byte[] data = Bytes.random(32)
+            byte[] sig = signer.apply(data).get().octets()
+            assertArrayEquals jca(data), sig
+            assertTrue verifier.apply(ByteBuffer.wrap(data)).test(sig)
+        }
+        // a failed verification also resets:
+        assertFalse verifier.apply(Bytes.random(8)).test(jca(Bytes.random(8)))
+        byte[] data = Bytes.random(16)
+        assertTrue verifier.apply(data).test(jca(data))
+    }
+
+    @Test
+    void reusableAfterGet() {
+        assertReusable()
+    }
+
+    @Test
+    void reusableAfterGetWithPool() {
+        def pool = JcaEnginePool.INSTANCE
+        boolean enabled = pool.isEnabled()
+        try {
+            pool.setEnabled(true)
+            assertReusable()
+        } finally {
+            pool.setEnabled(enabled)
+        }
+    }
+
+    @Test
+    void reset() {
+        def signer = RsaSignatureAlgorithm.RS256.with(KEY)
+        byte[] data = Bytes.random(32)
+        assertSame signer, signer.apply(Bytes.random(8)).reset()
+        assertArrayEquals jca(data), signer.apply(data).get().octets()
+
+        def verifier = RsaSignatureAlgorithm.RS256.with(KEY.publicKey())
+        assertSame verifier, verifier.apply(Bytes.random(8)).reset()
+        assertTrue verifier.apply(data).test(jca(data))
+    }
+}
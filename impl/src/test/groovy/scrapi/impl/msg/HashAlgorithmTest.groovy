@@ -16,6 +16,7 @@
 package scrapi.impl.msg
 
 import org.junit.jupiter.api.Test
+import scrapi.alg.Size
 import scrapi.msg.HashAlgorithm
 import scrapi.util.Bytes
 
@@ -23,6 +24,8 @@ import java.nio.ByteBuffer
 import java.security.MessageDigest
 
 import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertArrayEquals
+import static org.junit.jupiter.api.Assertions.assertThrows
 import static org.junit.jupiter.api.Assertions.assertTrue
 
 class HashAlgorithmTest {
@@ -71,6 +74,19 @@ class HashAlgorithmTest {
         assertEquals 512, HashAlgorithm.SHA3_512.size().bits()
     }
 
+    @Test
+    void sizesMatchJca() {
+        HashAlgorithm.registry().values().each {
+            assertEquals MessageDigest.getInstance(it.id()).getDigestLength(), it.size().bytes()
+        }
+    }
+
+    @Test
+    void sizeMismatch() {
+        def alg = new DefaultHashAlgorithm('SHA-256', Size.bits(128)) // no JCA lookup yet
+        assertThrows IllegalStateException, { alg.get() }
+    }
+
     @Test
     void digestNoData() {
         HashAlgorithm.registry().values().each {
@@ -159,4 +175,40 @@ class HashAlgorithmTest {
             assertTrue it.get().apply(data).test(digest)
         }
     }
+
+    static List<byte[]> messages(int count) {
+        def random = new Random()
+        return (0..<count).collect { byte[] m = new byte[random.nextInt(64)]; random.nextBytes(m); m }
+    }
+
+    static void assertDigestAll(HashAlgorithm alg, List<byte[]> messages, byte[] all, int offset) {
+        int len = alg.size().bytes()
+        messages.eachWithIndex { byte[] m, int i ->
+            byte[] expected = MessageDigest.getInstance(alg.id()).digest(m)
+            assertArrayEquals expected, Arrays.copyOfRange(all, offset + i * len, offset + (i + 1) * len)
+        }
+    }
+
+    @Test
+    void digestAll() {
+        [0, 1, 10, 5000].each { int count -> // 5000 exceeds the parallel threshold
+            def messages = messages(count)
+            HashAlgorithm.registry().values().each { HashAlgorithm alg ->
+                byte[] all = alg.digestAll(messages)
+                assertEquals count * alg.size().bytes(), all.length
+                assertDigestAll alg, messages, all, 0
+            }
+        }
+    }
+
+    @Test
+    void digestAllIntoArray() {
+        def messages = messages(1000)
+        def alg = HashAlgorithm.SHA_256
+        byte[] out = new byte[2 + messages.size() * 32]
+        assertEquals messages.size() * 32, alg.digestAll(messages, out, 2)
+        assertDigestAll alg, messages, out, 2
+        assertDigestAll alg, messages, alg.digestAll(new LinkedList<byte[]>(messages)), 0 // not RandomAccess
+        assertThrows IndexOutOfBoundsException, { alg.digestAll(messages, out, 3) }
+    }
 }
@@ -18,8 +18,12 @@ package scrapi.impl.msg
 import org.junit.jupiter.api.Test
 import scrapi.msg.HashAlgorithm
 import scrapi.msg.HmacAlgorithm
+import scrapi.util.Bytes
 
-import static org.junit.jupiter.api.Assertions.assertEquals
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+
+import static org.junit.jupiter.api.Assertions.*
 
 class HmacAlgorithmTest extends AbstractMacAlgorithmTest<HmacAlgorithm> {
 
@@ -71,4 +75,42 @@ class HmacAlgorithmTest extends AbstractMacAlgorithmTest<HmacAlgorithm> {
         assertEquals 512, HmacAlgorithm.HS3_512.size().bits()
     }
 
+    @Test
+    void prepare() {
+        algs().each { HmacAlgorithm alg ->
+            def key = alg.keygen().get()
+            def prepared = alg.prepare(key)
+            byte[] data = Bytes.random(32)
+            byte[] expected = alg.with(key).apply(data).get().octets()
+
+            assertArrayEquals expected, prepared.get().apply(data).get().octets()
+
+            // interleaved hashers on the same thread must not share state:
+            def a = prepared.get().apply(data)
+            def b = prepared.get().apply(Bytes.random(8))
+            assertArrayEquals expected, a.get().octets()
+            assertFalse Arrays.equals(expected, b.get().octets())
+
+            // hashers remain usable after get():
+            assertArrayEquals expected, a.apply(data).get().octets()
+            assertTrue prepared.get().apply(data).test(expected)
+        }
+    }
+
+    @Test
+    void prepareConcurrent() {
+        def key = HmacAlgorithm.HS256.keygen().get()
+        def prepared = HmacAlgorithm.HS256.prepare(key)
+        byte[] data = Bytes.random(64)
+        byte[] expected = HmacAlgorithm.HS256.with(key).apply(data).get().octets()
+        def pool = Executors.newFixedThreadPool(4)
+        try {
+            def futures = (1..100).collect {
+                pool.submit({ prepared.get().apply(data).get().octets() } as Callable<byte[]>)
+            }
+            futures.each { assertArrayEquals expected, it.get() }
+        } finally {
+            pool.shutdownNow()
+        }
+    }
 }
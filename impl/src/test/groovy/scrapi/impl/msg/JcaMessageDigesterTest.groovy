@@ -0,0 +1,233 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.msg
+
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import scrapi.impl.jca.JcaEnginePool
+import scrapi.msg.HashAlgorithm
+import scrapi.msg.MessageException
+import scrapi.util.Bytes
+
+import java.nio.ByteBuffer
+import java.nio.ReadOnlyBufferException
+import java.nio.channels.FileChannel
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardOpenOption
+import java.security.MessageDigest
+
+import static org.junit.jupiter.api.Assertions.*
+
+class JcaMessageDigesterTest {
+
+    static byte[] jca(String id, byte[] data) {
+        return MessageDigest.getInstance(id).digest(data)
+    }
+
+    static void assertReusable(JcaMessageDigester hasher) {
+        3.times {
+            byte[] data = Bytes.random(32)
+            assertArrayEquals jca('SHA-256', data), hasher.apply(data).get().octets()
+        }
+        byte[] data = Bytes.random(16)
+        assertTrue hasher.apply(ByteBuffer.wrap(data)).test(jca('SHA-256', data))
+        assertArrayEquals jca('SHA-256', data), hasher.apply(data).get().octets() // reusable after test, too
+    }
+
+    @Test
+    void reusableAfterGet() {
+        assertReusable new JcaMessageDigester(HashAlgorithm.SHA_256, null)
+    }
+
+    @Test
+    void reusableAfterGetWithPool() {
+        def pool = JcaEnginePool.INSTANCE
+        boolean enabled = pool.isEnabled()
+        try {
+            pool.setEnabled(true)
+            assertReusable new JcaMessageDigester(HashAlgorithm.SHA_256, null)
+        } finally {
+            pool.setEnabled(enabled)
+        }
+    }
+
+    @Test
+    void reset() {
+        def hasher = new JcaMessageDigester(HashAlgorithm.SHA_256, null)
+        byte[] data = Bytes.random(32)
+        assertSame hasher, hasher.apply(Bytes.random(8)).reset()
+        assertArrayEquals jca('SHA-256', data), hasher.apply(data).get().octets()
+    }
+
+    @Test
+    void resetWithoutData() {
+        def hasher = new JcaMessageDigester(HashAlgorithm.SHA_256, null)
+        hasher.apply(Bytes.random(8)).get()
+        hasher.reset().reset() // no-op after get()
+        assertArrayEquals jca('SHA-256', Bytes.EMPTY), hasher.get().octets()
+    }
+
+    @Test
+    void digestIntoArray() {
+        def hasher = new JcaMessageDigester(HashAlgorithm.SHA_256, null)
+        byte[] data = Bytes.random(32)
+        byte[] out = new byte[40]
+        assertEquals 32, hasher.apply(data).digestInto(out, 4)
+        assertArrayEquals jca('SHA-256', data), Arrays.copyOfRange(out, 4, 36)
+        assertArrayEquals new byte[4], Arrays.copyOfRange(out, 36, 40) // untouched
+        assertArrayEquals jca('SHA-256', data), hasher.apply(data).get().octets() // reset after digestInto
+    }
+
+    @Test
+    void digestIntoArrayTooSmall() {
+        def hasher = new JcaMessageDigester(HashAlgorithm.SHA_256, null)
+        assertThrows IndexOutOfBoundsException, { hasher.digestInto(new byte[32], 1) }
+        assertThrows IndexOutOfBoundsException, { hasher.digestInto(new byte[40], -1) }
+    }
+
+    @Test
+    void digestIntoByteBuffer() {
+        byte[] data = Bytes.random(32)
+        byte[] expected = jca('SHA-256', data)
+        def hasher = new JcaMessageDigester(HashAlgorithm.SHA_256, null)
+        [ByteBuffer.allocate(40), ByteBuffer.allocateDirect(40)].each { ByteBuffer buf ->
+            buf.position(2)
+            assertEquals 32, hasher.apply(data).digestInto(buf)
+            assertEquals 34, buf.position()
+            byte[] result = new byte[32]
+            buf.position(2)
+            buf.get(result)
+            assertArrayEquals expected, result
+        }
+    }
+
+    @Test
+    void digestIntoByteBufferTooSmall() {
+        def hasher = new JcaMessageDigester(HashAlgorithm.SHA_256, null)
+        assertThrows IllegalArgumentException, { hasher.digestInto(ByteBuffer.allocate(31)) }
+    }
+
+    @Test
+    void digestIntoByteBufferInvalidRetainsState() {
+        byte[] data = Bytes.random(32)
+        def hasher = new JcaMessageDigester(HashAlgorithm.SHA_256, null)
+        hasher.apply(data)
+        assertThrows IllegalArgumentException, { hasher.digestInto(ByteBuffer.allocateDirect(31)) }
+        assertThrows ReadOnlyBufferException, { hasher.digestInto(ByteBuffer.allocate(32).asReadOnlyBuffer()) }
+        assertArrayEquals jca('SHA-256', data), hasher.get().octets() // digest was not consumed
+    }
+
+    @Test
+    void testRange() {
+        def hasher = new JcaMessageDigester(HashAlgorithm.SHA_256, null)
+        byte[] data = Bytes.random(32)
+        byte[] record = Bytes.concat(Bytes.random(3), jca('SHA-256', data), Bytes.random(5))
+        assertTrue hasher.apply(data).test(record, 3, 32)
+        assertFalse hasher.apply(data).test(record, 4, 32)
+        assertFalse hasher.apply(data).test(record, 3, 31) // wrong length
+        assertThrows IndexOutOfBoundsException, { hasher.test(record, 10, 32) }
+    }
+
+    @Test
+    void testByteBuffer() {
+        def hasher = new JcaMessageDigester(HashAlgorithm.SHA_256, null)
+        byte[] data = Bytes.random(32)
+        byte[] expected = jca('SHA-256', data)
+        [ByteBuffer.wrap(expected), ByteBuffer.allocateDirect(32).put(expected).flip(),
+         ByteBuffer.wrap(expected).asReadOnlyBuffer()].each { ByteBuffer buf ->
+            assertTrue hasher.apply(data).test(buf)
+            assertFalse buf.hasRemaining()
+            buf.rewind()
+            assertFalse hasher.apply(Bytes.random(32)).test(buf)
+        }
+    }
+
+    @Test
+    void testNull() {
+        def hasher = new JcaMessageDigester(HashAlgorithm.SHA_256, null)
+        byte[] data = Bytes.random(32)
+        assertFalse hasher.apply(data).test((byte[]) null)
+        assertArrayEquals jca('SHA-256', data), hasher.apply(data).get().octets() // still reset
+    }
+
+    static Path file(Path dir, byte[] data) {
+        return Files.write(dir.resolve('data.bin'), data)
+    }
+
+    @Test
+    void applyPath(@TempDir Path dir) {
+        // small (read) and large (mapped) files:
+        [Bytes.random(100), Bytes.random(1024 * 1024 + 7)].each { byte[] data ->
+            def hasher = new JcaMessageDigester(HashAlgorithm.SHA_256, null)
+            assertArrayEquals jca('SHA-256', data), hasher.apply(file(dir, data)).get().octets()
+        }
+    }
+
+    @Test
+    void applyEmptyPath(@TempDir Path dir) {
+        def hasher = new JcaMessageDigester(HashAlgorithm.SHA_256, null)
+        assertArrayEquals jca('SHA-256', Bytes.EMPTY), hasher.apply(file(dir, Bytes.EMPTY)).get().octets()
+    }
+
+    @Test
+    void applyMissingPath(@TempDir Path dir) {
+        def hasher = new JcaMessageDigester(HashAlgorithm.SHA_256, null)
+        assertThrows MessageException, { hasher.apply(dir.resolve('missing')) }
+    }
+
+    @Test
+    void applyFileChannel(@TempDir Path dir) {
+        byte[] data = Bytes.random(256 * 1024)
+        def hasher = new JcaMessageDigester(HashAlgorithm.SHA_256, null)
+        FileChannel.open(file(dir, data), StandardOpenOption.READ).withCloseable { FileChannel ch ->
+            [[0, data.length], [10, 100], [1000, 200 * 1024]].each { List<Integer> region ->
+                int pos = region[0], len = region[1]
+                byte[] expected = jca('SHA-256', Arrays.copyOfRange(data, pos, pos + len))
+                assertArrayEquals expected, hasher.apply(ch, pos, len).get().octets()
+            }
+            assertEquals 0, ch.position() // unchanged
+            assertThrows IllegalArgumentException, { hasher.apply(ch, 1, data.length) }
+            assertThrows IllegalArgumentException, { hasher.apply(ch, -1, 1) }
+        }
+    }
+
+    @Test
+    void applyInputStream(@TempDir Path dir) {
+        byte[] data = Bytes.random(200 * 1024)
+        def hasher = new JcaMessageDigester(HashAlgorithm.SHA_256, null)
+        assertArrayEquals jca('SHA-256', data), hasher.apply(new ByteArrayInputStream(data)).get().octets()
+
+        new FileInputStream(file(dir, data).toFile()).withCloseable { FileInputStream fis ->
+            fis.skip(10)
+            byte[] expected = jca('SHA-256', Arrays.copyOfRange(data, 10, data.length))
+            assertArrayEquals expected, hasher.apply(fis).get().octets()
+            assertEquals(-1, fis.read()) // fully consumed
+        }
+    }
+
+    @Test
+    void streamBufferZeroized(@TempDir Path dir) {
+        def field = AbstractMessageConsumer.getDeclaredField('streamBuffer')
+        field.setAccessible(true)
+        def hasher = new JcaMessageDigester(HashAlgorithm.SHA_256, null)
+        byte[] data = Bytes.random(100 * 1024)
+        hasher.apply(new ByteArrayInputStream(data)).get()
+        assertArrayEquals new byte[AbstractMessageConsumer.STREAM_BUFFER_SIZE], (byte[]) field.get(hasher)
+        hasher.apply(file(dir, Bytes.random(100))).get() // small files are read, not mapped
+        assertArrayEquals new byte[AbstractMessageConsumer.STREAM_BUFFER_SIZE], (byte[]) field.get(hasher)
+    }
+}
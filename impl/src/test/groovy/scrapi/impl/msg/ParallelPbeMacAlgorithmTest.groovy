@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.msg
+
+import org.junit.jupiter.api.Test
+import scrapi.key.Password
+import scrapi.msg.ParallelPasswordDigest
+import scrapi.msg.ParallelPbeMacAlgorithm
+import scrapi.msg.PbeMacAlgorithm
+import scrapi.util.Strings
+
+import java.util.concurrent.SynchronousQueue
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.function.Consumer
+
+import static org.junit.jupiter.api.Assertions.*
+
+class ParallelPbeMacAlgorithmTest {
+
+    private static final ParallelPbeMacAlgorithm ALG = PbeMacAlgorithm.PBEHS256.parallel()
+    private static final Password PASSWORD = Password.of('correct horse battery staple'.toCharArray())
+    private static final byte[] MESSAGE = Strings.utf8('hello')
+
+    private static ParallelPasswordDigest digest(ParallelPbeMacAlgorithm alg = ALG, Closure c) {
+        Consumer configurer = { p ->
+            p.key(PASSWORD).cost(4096)
+            c.call(p)
+        }
+        return alg.with(configurer).apply(MESSAGE).get()
+    }
+
+    @Test
+    void ids() {
+        assertEquals 'PBEWithHmacSHA256/PARALLEL', ALG.id()
+        assertSame PbeMacAlgorithm.PBEHS256, ALG.pbeMacAlgorithm()
+        assertSame ALG, PbeMacAlgorithm.PBEHS256.parallel()
+        assertEquals PbeMacAlgorithm.PBEHS256.size(), ALG.size()
+    }
+
+    @Test
+    void digestRetainsParams() {
+        def result = digest { it.lanes(2) }
+        assertSame ALG, result.algorithm()
+        assertEquals 4096, result.cost()
+        assertEquals 2, result.lanes()
+        assertEquals ALG.size().bytes(), result.salt().length
+        assertEquals ALG.size().bytes(), result.octets().length
+    }
+
+    @Test
+    void defaultLanes() {
+        assertEquals ParallelPbeMacAlgorithm.DEFAULT_LANES, digest {}.lanes()
+    }
+
+    @Test
+    void reproducible() {
+        def first = digest {}
+        def again = digest { it.salt(first.salt()).lanes(first.lanes()) }
+        assertEquals first, again
+        assertEquals first.hashCode(), again.hashCode()
+    }
+
+    @Test
+    void lanesAffectResult() {
+        def two = digest { it.lanes(2) }
+        def four = digest { it.salt(two.salt()).lanes(4) }
+        assertFalse Arrays.equals(two.octets(), four.octets())
+        assertNotEquals two, four
+    }
+
+    @Test
+    void notCompatibleWithPbeMac() {
+        def parallel = digest { it.lanes(1) }
+        Consumer configurer = { it.key(PASSWORD).salt(parallel.salt()).cost(4096) }
+        def pbe = PbeMacAlgorithm.PBEHS256.with(configurer).apply(MESSAGE).get()
+        assertFalse Arrays.equals(parallel.octets(), pbe.octets())
+    }
+
+    @Test
+    void invalidLanes() {
+        assertThrows IllegalArgumentException, { digest { it.lanes(0) } }
+        assertThrows IllegalArgumentException, { digest { it.lanes(ParallelPbeMacAlgorithm.MAX_LANES + 1) } }
+    }
+
+    @Test
+    void laneIterationsTooLow() {
+        assertThrows IllegalArgumentException, { digest { it.lanes(8) } } // 4096 / 8 = 512 < 1024
+    }
+
+    @Test
+    void saturatedExecutor() {
+        def executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new SynchronousQueue<Runnable>())
+        try {
+            def expected = digest {}
+            // lanes rejected by the executor are computed by the calling thread:
+            assertEquals expected, digest { it.salt(expected.salt()).executor(executor) }
+        } finally {
+            executor.shutdown()
+        }
+    }
+
+    @Test
+    void verify() {
+        Consumer configurer = { it.key(PASSWORD).cost(4096).lanes(2) }
+        def digest = ALG.with(configurer).get() // verify compares digests of an empty message
+        assertTrue ALG.verify(PASSWORD, digest)
+        assertFalse ALG.verify(Password.of('wrong'.toCharArray()), digest)
+    }
+}
@@ -16,9 +16,16 @@
 package scrapi.impl.msg
 
 import org.junit.jupiter.api.Test
+import scrapi.impl.key.DefaultPassword
+import scrapi.key.Password
 import scrapi.msg.PbeMacAlgorithm
 
-import static org.junit.jupiter.api.Assertions.assertEquals
+import java.time.Duration
+import java.util.concurrent.CompletionException
+import java.util.concurrent.RejectedExecutionException
+import java.util.function.Consumer
+
+import static org.junit.jupiter.api.Assertions.*
 
 class PbeMacAlgorithmTest extends AbstractMacAlgorithmTest<PbeMacAlgorithm> {
 
@@ -67,4 +74,99 @@ class PbeMacAlgorithmTest extends AbstractMacAlgorithmTest<PbeMacAlgorithm> {
         assertEquals 256, PbeMacAlgorithm.PBEHS512_256.size().bits()
     }
 
+    @Test
+    void calibrate() {
+        def alg = PbeMacAlgorithm.PBEHS256
+        int iterations = alg.calibrate(Duration.ofMillis(50))
+        assertTrue iterations >= DefaultPassword.MIN_ITERATIONS
+        // cached, so later calls are immediate and consistent:
+        assertEquals iterations * 10, alg.calibrate(Duration.ofMillis(500)), iterations * 0.01 as double
+        assertEquals DefaultPassword.MIN_ITERATIONS, alg.calibrate(Duration.ofNanos(1))
+        assertEquals Integer.MAX_VALUE, alg.calibrate(Duration.ofDays(365 * 1000))
+    }
+
+    @Test
+    void calibrateInvalidTarget() {
+        assertThrows NullPointerException, { PbeMacAlgorithm.PBEHS256.calibrate(null) }
+        assertThrows IllegalArgumentException, { PbeMacAlgorithm.PBEHS256.calibrate(Duration.ZERO) }
+        assertThrows IllegalArgumentException, { PbeMacAlgorithm.PBEHS256.calibrate(Duration.ofMillis(-1)) }
+    }
+
+    @Test
+    void verifyAndUpgrade() {
+        def password = new DefaultPassword('correct horse'.toCharArray())
+        Consumer configurer = { it.key(password).salt(new byte[8]).cost(2048) }
+        def stored = PbeMacAlgorithm.PBEHS1.with(configurer).get()
+        def alg = PbeMacAlgorithm.PBEHS256
+        def queued = [] as List<Runnable>
+
+        def upgrade = alg.verifyAndUpgrade(password, stored, 4096, { queued.add(it) })
+        assertTrue upgrade.verified()
+        assertTrue upgrade.costOutdated()
+        assertTrue upgrade.saltOutdated()
+        assertTrue upgrade.algorithmOutdated()
+        assertTrue upgrade.outdated()
+        assertFalse upgrade.digest().isDone() // computed by the executor, not the caller
+
+        password.destroy() // the replacement must not depend on the caller's password instance
+        queued.each { it.run() }
+        def replacement = upgrade.digest().join()
+        assertSame alg, replacement.algorithm()
+        assertEquals 4096, replacement.cost()
+        assertEquals alg.size().bytes(), replacement.salt().length
+        assertTrue alg.verify(new DefaultPassword('correct horse'.toCharArray()), replacement)
+
+        upgrade = alg.verifyAndUpgrade(new DefaultPassword('correct horse'.toCharArray()), replacement, 4096, { it.run() })
+        assertTrue upgrade.verified()
+        assertFalse upgrade.outdated()
+        assertNull upgrade.digest().join()
+    }
+
+    @Test
+    void verifyAndUpgradeParallel() {
+        Password password = new DefaultPassword('correct horse'.toCharArray())
+        def alg = PbeMacAlgorithm.PBEHS256
+        Consumer configurer = { it.key(password).cost(8192).lanes(2) }
+        def stored = alg.parallel().with(configurer).get()
+        def upgrade = alg.verifyAndUpgrade(password, stored, 4096, { it.run() })
+        assertTrue upgrade.verified()
+        assertFalse upgrade.costOutdated()
+        assertTrue upgrade.algorithmOutdated()
+        assertSame alg, upgrade.digest().join().algorithm()
+    }
+
+    @Test
+    void verifyAndUpgradeWrongPassword() {
+        Consumer configurer = { it.key(new DefaultPassword('a'.toCharArray())).cost(2048) }
+        def stored = PbeMacAlgorithm.PBEHS1.with(configurer).get()
+        def upgrade = PbeMacAlgorithm.PBEHS256.verifyAndUpgrade(new DefaultPassword('b'.toCharArray()), stored, 4096,
+                { throw new IllegalStateException('should not be called') })
+        assertFalse upgrade.verified()
+        assertTrue upgrade.outdated()
+        assertNull upgrade.digest().join()
+    }
+
+    @Test
+    void verifyAndUpgradeRejected() {
+        def password = new DefaultPassword('correct horse'.toCharArray())
+        Consumer configurer = { it.key(password).cost(2048) }
+        def stored = PbeMacAlgorithm.PBEHS1.with(configurer).get()
+        def upgrade = PbeMacAlgorithm.PBEHS256.verifyAndUpgrade(password, stored, 4096,
+                { throw new RejectedExecutionException() })
+        assertTrue upgrade.verified()
+        def e = assertThrows(CompletionException, { upgrade.digest().join() })
+        assertInstanceOf RejectedExecutionException, e.getCause()
+    }
+
+    @Test
+    void verifyAndUpgradeInvalid() {
+        def alg = PbeMacAlgorithm.PBEHS256
+        def password = new DefaultPassword('correct horse'.toCharArray())
+        Consumer configurer = { it.key(password).cost(2048) }
+        def stored = alg.with(configurer).get()
+        assertThrows NullPointerException, { alg.verifyAndUpgrade(null, stored) }
+        assertThrows NullPointerException, { alg.verifyAndUpgrade(password, null) }
+        assertThrows IllegalArgumentException, { alg.verifyAndUpgrade(password, stored, 1, { it.run() }) }
+        assertThrows NullPointerException, { alg.verifyAndUpgrade(password, stored, 4096, null) }
+    }
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.msg
+
+import org.junit.jupiter.api.Test
+import scrapi.key.Password
+import scrapi.msg.ParallelPasswordDigest
+import scrapi.msg.PbeMacAlgorithm
+import scrapi.msg.PhcCodec
+
+import java.nio.charset.StandardCharsets
+import java.util.function.Consumer
+
+import static org.junit.jupiter.api.Assertions.*
+
+class PhcCodecTest {
+
+    static final Password PASSWORD = Password.of('correct horse battery staple'.toCharArray())
+    static final Password WRONG = Password.of('wrong'.toCharArray())
+    static final byte[] EMPTY = new byte[0]
+
+    static def digest(PbeMacAlgorithm alg) {
+        Consumer configurer = { it.key(PASSWORD).cost(2048) }
+        return alg.with(configurer).apply(EMPTY).get()
+    }
+
+    @Test
+    void instance() {
+        assertSame DefaultPhcCodec.INSTANCE, PhcCodec.instance()
+    }
+
+    @Test
+    void phcIds() {
+        assertEquals 'pbe-hmac-sha256', DefaultPhcCodec.phcId(PbeMacAlgorithm.PBEHS256.id())
+        assertEquals 'pbe-hmac-sha512-256', DefaultPhcCodec.phcId(PbeMacAlgorithm.PBEHS512_256.id())
+        assertEquals 'pbe-hmac-sha256-parallel', DefaultPhcCodec.phcId(PbeMacAlgorithm.PBEHS256.parallel().id())
+    }
+
+    @Test
+    void roundTrip() {
+        def codec = PhcCodec.instance()
+        def digest = digest(PbeMacAlgorithm.PBEHS256)
+        String phc = codec.encode(digest)
+        assertTrue phc.startsWith('$pbe-hmac-sha256$i=2048$')
+        assertFalse phc.endsWith('=') // unpadded
+
+        def parsed = codec.parse(phc)
+        assertSame PbeMacAlgorithm.PBEHS256, parsed.algorithm()
+        assertEquals digest, parsed.digest()
+        assertEquals phc, codec.encode(parsed.digest())
+        assertTrue parsed.verify(PASSWORD)
+        assertFalse parsed.verify(WRONG)
+        assertTrue codec.verify(phc, PASSWORD)
+        assertFalse codec.verify(phc, WRONG)
+    }
+
+    @Test
+    void parallelRoundTrip() {
+        def codec = PhcCodec.instance()
+        def alg = PbeMacAlgorithm.PBEHS256.parallel()
+        Consumer configurer = { it.key(PASSWORD).cost(8192).lanes(2) }
+        def digest = alg.with(configurer).apply(EMPTY).get()
+        String phc = codec.encode(digest)
+        assertTrue phc.startsWith('$pbe-hmac-sha256-parallel$i=8192,l=2$')
+
+        def parsed = codec.parse(phc)
+        assertSame alg, parsed.algorithm()
+        assertEquals 2, (parsed.digest() as ParallelPasswordDigest).lanes()
+        assertTrue codec.verify(phc, PASSWORD)
+        assertFalse codec.verify(phc, WRONG)
+    }
+
+    @Test
+    void parseCharSequence() {
+        String phc = PhcCodec.instance().encode(digest(PbeMacAlgorithm.PBEHS384))
+        assertTrue PhcCodec.instance().verify(new StringBuilder(phc), PASSWORD)
+    }
+
+    @Test
+    void invalid() {
+        def codec = PhcCodec.instance()
+        String phc = codec.encode(digest(PbeMacAlgorithm.PBEHS256))
+        String params = 'i=2048'
+        String tail = phc.substring(phc.indexOf(params) + params.length())
+        def invalid = [
+                '',
+                'pbe-hmac-sha256',
+                '$pbe-hmac-sha256',
+                '$unknown$i=2048' + tail,
+                '$pbe-hmac-sha256$i=02048' + tail,
+                '$pbe-hmac-sha256$i=-2048' + tail,
+                '$pbe-hmac-sha256$i=1' + tail, // below minimum iterations
+                '$pbe-hmac-sha256$i=99999999999' + tail,
+                '$pbe-hmac-sha256$c=2048' + tail,
+                '$pbe-hmac-sha256$i=2048,l=2' + tail,
+                '$pbe-hmac-sha256-parallel$i=2048' + tail,
+                '$pbe-hmac-sha256$i=2048$$AAAA',
+                phc.substring(0, phc.length() - 1),
+                phc + 'A',
+                phc.substring(0, phc.length() - 1) + '!',
+        ]
+        for (String s : invalid) {
+            assertThrows(IllegalArgumentException, { codec.parse(s) }, s)
+            assertThrows(IllegalArgumentException, { codec.verify(s, PASSWORD) }, s)
+        }
+        assertThrows NullPointerException, { codec.parse(null) }
+        assertThrows NullPointerException, { codec.encode(null) }
+        assertThrows NullPointerException, { codec.verify(phc, null) }
+    }
+
+    @Test
+    void base64() {
+        for (int len = 0; len < 70; len++) {
+            byte[] data = new byte[len]
+            for (int i = 0; i < len; i++) data[i] = (byte) (i * 37)
+            String encoded = PhcBase64.encode(data, new StringBuilder()).toString()
+            assertEquals Base64.getEncoder().withoutPadding().encodeToString(data), encoded
+            assertEquals encoded.length(), PhcBase64.encodedLength(len)
+            assertEquals len, PhcBase64.decodedLength(encoded.length())
+            byte[] decoded = new byte[len]
+            assertEquals len, PhcBase64.decode(encoded, 0, encoded.length(), decoded, 0)
+            assertArrayEquals data, decoded
+        }
+    }
+
+    @Test
+    void base64Invalid() {
+        byte[] dst = new byte[8]
+        assertThrows IllegalArgumentException, { PhcBase64.decodedLength(5) }
+        assertThrows IllegalArgumentException, { PhcBase64.decode('AB=', 0, 3, dst, 0) }
+        assertThrows IllegalArgumentException, { PhcBase64.decode('ABéA', 0, 4, dst, 0) }
+        assertThrows IllegalArgumentException, { PhcBase64.decode('AB', 0, 2, dst, 0) } // non-canonical trailing bits
+        assertEquals 1, PhcBase64.decode('AA', 0, 2, dst, 0)
+        assertEquals 'hi', new String(dst, 0, PhcBase64.decode('aGk', 0, 3, dst, 0), StandardCharsets.US_ASCII)
+    }
+}
@@ -18,14 +18,22 @@ package scrapi.impl.msg
 import org.junit.jupiter.api.Test
 import scrapi.alg.Size
 import scrapi.key.RsaPrivateKey
+import scrapi.key.RsaPublicKey
+import scrapi.msg.HashAlgorithm
 import scrapi.msg.RsaSignatureAlgorithm
 import scrapi.msg.SignatureAlgorithm
+import scrapi.msg.SignatureAlgorithm.SignedMessage
 import scrapi.util.Bytes
 
 import java.security.MessageDigest
 import java.security.Signature
+import java.util.HexFormat
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals
 import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertFalse
+import static org.junit.jupiter.api.Assertions.assertSame
+import static org.junit.jupiter.api.Assertions.assertThrows
 import static org.junit.jupiter.api.Assertions.assertTrue
 
 class RsaSignatureAlgorithmTest {
@@ -106,6 +114,117 @@ class RsaSignatureAlgorithmTest {
             assertTrue alg.with(priv.publicKey()).apply(b).test(sig)
         }
     }
+
+    @Test
+    void prepare() {
+        def alg = RsaSignatureAlgorithm.RS256
+        def priv = alg.keygen().size(Size.bits(2048)).get() as RsaPrivateKey
+        def signers = alg.prepare(priv)
+        def verifiers = alg.prepare(priv.publicKey())
+        byte[] data = Bytes.random(32)
+        byte[] expected = alg.with(priv).apply(data).get().octets() // PKCS #1 v1.5 is deterministic
+
+        assertArrayEquals expected, signers.get().apply(data).get().octets()
+        assertTrue verifiers.get().apply(data).test(expected)
+
+        // interleaved consumers on the same thread must not share state:
+        def a = signers.get().apply(data)
+        def b = signers.get().apply(Bytes.random(8))
+        def v = verifiers.get().apply(Bytes.random(8))
+        assertArrayEquals expected, a.get().octets()
+        assertFalse Arrays.equals(expected, b.get().octets())
+        assertTrue v.reset().apply(data).test(expected)
+
+        // consumers remain usable after producing a result:
+        assertArrayEquals expected, a.apply(data).get().octets()
+        assertFalse v.apply(Bytes.random(8)).test(expected)
+        assertTrue v.apply(data).test(expected)
+
+        assertThrows NullPointerException, { alg.prepare((RsaPrivateKey) null) }
+        assertThrows NullPointerException, { alg.prepare((RsaPublicKey) null) }
+    }
+
+    @Test
+    void prehashed() {
+        def priv = RsaSignatureAlgorithm.RS256.keygen().size(Size.bits(2048)).get() as RsaPrivateKey
+        byte[] data = Bytes.random(32)
+        for (RsaSignatureAlgorithm alg : RsaSignatureAlgorithm.registry().values()) {
+            def digest = alg.hashAlgorithm().get().apply(data).get()
+            byte[] expected = alg.with(priv).apply(data).get().octets() // PKCS #1 v1.5 is deterministic
+            def signature = alg.sign(priv, digest)
+            assertSame alg, signature.algorithm()
+            assertArrayEquals expected, signature.octets()
+            assertTrue alg.verify(priv.publicKey(), digest, expected)
+            expected[0] ^= 1
+            assertFalse alg.verify(priv.publicKey(), digest, expected)
+        }
+    }
+
+    @Test
+    void digestInfoPrefix() {
+        // RFC 8017, Section 9.2, Note 1:
+        assertArrayEquals HexFormat.of().parseHex('3031300d060960864801650304020105000420'),
+                DefaultRsaSignatureAlgorithm.digestInfoPrefix(HashAlgorithm.SHA_256)
+        assertArrayEquals HexFormat.of().parseHex('3021300906052b0e03021a05000414'),
+                DefaultRsaSignatureAlgorithm.digestInfoPrefix(HashAlgorithm.SHA_1)
+        assertThrows IllegalArgumentException, { DefaultRsaSignatureAlgorithm.digestInfoPrefix(HashAlgorithm.MD5) }
+    }
+
+    @Test
+    void prehashedInvalid() {
+        def alg = RsaSignatureAlgorithm.RS256
+        def priv = alg.keygen().size(Size.bits(2048)).get() as RsaPrivateKey
+        def digest = HashAlgorithm.SHA_256.get().apply(Bytes.random(32)).get()
+        def wrong = HashAlgorithm.SHA_384.get().apply(Bytes.random(32)).get()
+        assertThrows IllegalArgumentException, { alg.sign(priv, wrong) }
+        assertThrows NullPointerException, { alg.sign(priv, null) }
+        assertThrows NullPointerException, { alg.sign(null, digest) }
+        byte[] signature = alg.sign(priv, digest).octets()
+        assertThrows IllegalArgumentException, { alg.verify(priv.publicKey(), wrong, signature) }
+        assertThrows NullPointerException, { alg.verify(priv.publicKey(), digest, null) }
+        assertThrows NullPointerException, { alg.verify(null, digest, signature) }
+    }
+
+    static List<SignedMessage> signedMessages(RsaSignatureAlgorithm alg, int count, Set<Integer> invalid) {
+        def privs = [alg.keygen().get(), alg.keygen().get()] as List<RsaPrivateKey>
+        return (0..<count).collect { int i ->
+            def priv = privs[i % 2] // alternate keys to exercise per-key verifier reuse
+            byte[] message = Bytes.random(1 + i % 64)
+            byte[] sig = alg.with(priv).apply(message).get().octets()
+            if (invalid.contains(i)) sig[0] ^= 1
+            SignedMessage.of(priv.publicKey(), message, sig)
+        }
+    }
+
+    @Test
+    void verifyAll() {
+        def alg = RsaSignatureAlgorithm.RS256
+        def invalid = [3, 17, 40] as Set<Integer>
+        def messages = signedMessages(alg, 50, invalid)
+        def results = alg.verifyAll(messages)
+        (0..<50).each { assertEquals(!invalid.contains(it), results.get(it)) }
+        assertEquals 47, results.cardinality()
+        assertEquals results, alg.verifyAll(new LinkedList<>(messages)) // non-RandomAccess lists
+        assertTrue alg.verifyAll([]).isEmpty()
+    }
+
+    @Test
+    void verifyAllFailFast() {
+        def alg = RsaSignatureAlgorithm.RS256
+        def messages = signedMessages(alg, 50, [10] as Set<Integer>)
+        def results = alg.verifyAll(messages, true)
+        assertFalse results.get(10)
+        assertTrue results.cardinality() < 50
+        assertEquals 50, alg.verifyAll(messages.findAll { it != messages[10] } + [messages[0]], true).cardinality()
+    }
+
+    @Test
+    void verifyAllInvalidArgs() {
+        def alg = RsaSignatureAlgorithm.RS256
+        assertThrows NullPointerException, { alg.verifyAll(null) }
+        assertThrows NullPointerException, { alg.verifyAll([null]) }
+        assertThrows NullPointerException, { SignedMessage.of(null, new byte[0], new byte[0]) }
+    }
 //
 //    @Test
 //    void digestByteBuffer() {
@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.msg
+
+import org.junit.jupiter.api.Test
+import scrapi.alg.Size
+import scrapi.msg.HashAlgorithm
+import scrapi.util.Bytes
+
+import java.nio.ByteBuffer
+import java.security.MessageDigest
+
+import static org.junit.jupiter.api.Assertions.*
+
+class TreeHashAlgorithmTest {
+
+    static final int LEAF_SIZE = 1024
+
+    /**
+     * Straightforward sequential implementation of the documented tree construction.
+     */
+    static byte[] expected(String id, byte[] data, int leafSize) {
+        List<byte[]> level = []
+        for (int off = 0; off < data.length || level.isEmpty(); off += leafSize) {
+            def md = MessageDigest.getInstance(id)
+            md.update((byte) 0x00)
+            md.update(data, off, Math.min(leafSize, data.length - off))
+            level.add(md.digest())
+        }
+        while (level.size() > 1) {
+            List<byte[]> next = []
+            for (int i = 0; i < level.size(); i += 2) {
+                if (i + 1 < level.size()) {
+                    def md = MessageDigest.getInstance(id)
+                    md.update((byte) 0x01)
+                    md.update(level[i])
+                    md.update(level[i + 1])
+                    next.add(md.digest())
+                } else {
+                    next.add(level[i])
+                }
+            }
+            level = next
+        }
+        return level[0]
+    }
+
+    static byte[] data(int len) {
+        return len == 0 ? Bytes.EMPTY : Bytes.random(len)
+    }
+
+    @Test
+    void idAndSize() {
+        def alg = HashAlgorithm.SHA3_256.tree(Size.bytes(LEAF_SIZE))
+        assertEquals 'SHA3-256/TREE-1024', alg.id()
+        assertEquals HashAlgorithm.SHA3_256.size(), alg.size()
+        assertEquals alg, HashAlgorithm.SHA3_256.tree(Size.bytes(LEAF_SIZE))
+        assertNotEquals alg, HashAlgorithm.SHA3_256
+        assertEquals 'SHA3-256/TREE-2048', alg.tree(Size.bytes(2048)).id()
+    }
+
+    @Test
+    void leafSizeTooSmall() {
+        assertThrows IllegalArgumentException, { HashAlgorithm.SHA_256.tree(Size.bytes(LEAF_SIZE - 1)) }
+    }
+
+    @Test
+    void digest() {
+        def hasher = HashAlgorithm.SHA_256.tree(Size.bytes(LEAF_SIZE)).get()
+        [0, 1, LEAF_SIZE - 1, LEAF_SIZE, LEAF_SIZE + 1, 3 * LEAF_SIZE, 7 * LEAF_SIZE + 13].each { int len ->
+            byte[] data = data(len)
+            byte[] expected = expected('SHA-256', data, LEAF_SIZE)
+            assertArrayEquals expected, hasher.apply(data).get().octets()
+            assertArrayEquals expected, hasher.apply(ByteBuffer.allocateDirect(len).put(data).flip()).get().octets()
+        }
+    }
+
+    @Test
+    void digestIncremental() {
+        def hasher = HashAlgorithm.SHA_512.tree(Size.bytes(LEAF_SIZE)).get()
+        byte[] data = data(20 * LEAF_SIZE + 5)
+        def random = new Random()
+        for (int off = 0; off < data.length;) {
+            int len = Math.min(data.length - off, 1 + random.nextInt(LEAF_SIZE + LEAF_SIZE.intdiv(2)))
+            hasher.apply(data, off, len)
+            off += len
+        }
+        assertArrayEquals expected('SHA-512', data, LEAF_SIZE), hasher.get().octets()
+
+        data.each { hasher.apply(it) } // one byte at a time
+        assertArrayEquals expected('SHA-512', data, LEAF_SIZE), hasher.get().octets()
+    }
+
+    @Test
+    void reset() {
+        def hasher = HashAlgorithm.SHA_256.tree(Size.bytes(LEAF_SIZE)).get()
+        byte[] message = data(3 * LEAF_SIZE)
+        hasher.apply(data(5 * LEAF_SIZE + 1)).reset()
+        assertArrayEquals expected('SHA-256', message, LEAF_SIZE), hasher.apply(message).get().octets()
+    }
+}
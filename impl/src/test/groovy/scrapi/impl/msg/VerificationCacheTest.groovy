@@ -0,0 +1,191 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.impl.msg
+
+import org.junit.jupiter.api.BeforeAll
+import org.junit.jupiter.api.Test
+import scrapi.impl.key.DefaultRsaPublicKey
+import scrapi.key.RsaPrivateKey
+import scrapi.key.RsaPublicKey
+import scrapi.msg.MessageException
+import scrapi.msg.RsaSignatureAlgorithm
+import scrapi.msg.VerificationCache
+
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+import java.security.KeyFactory
+import java.security.interfaces.RSAPublicKey
+import java.security.spec.X509EncodedKeySpec
+import java.time.Duration
+
+import static org.junit.jupiter.api.Assertions.*
+
+class VerificationCacheTest {
+
+    static final def ALG = RsaSignatureAlgorithm.RS256
+    static final byte[] MESSAGE = 'header.payload'.getBytes(StandardCharsets.UTF_8)
+
+    static RsaPrivateKey priv
+    static RsaPublicKey pub
+    static byte[] signature
+
+    @BeforeAll
+    static void setUp() {
+        priv = ALG.keygen().get() as RsaPrivateKey
+        pub = priv.publicKey()
+        signature = ALG.with(priv).apply(MESSAGE).get().octets()
+    }
+
+    static VerificationCache cache() {
+        return VerificationCache.builder().build()
+    }
+
+    @Test
+    void builder() {
+        assertInstanceOf DefaultVerificationCache, VerificationCache.builder().build()
+        assertThrows IllegalArgumentException, { VerificationCache.builder().maximumSize(0) }
+        assertThrows NullPointerException, { VerificationCache.builder().ttl(null) }
+        assertThrows IllegalArgumentException, { VerificationCache.builder().ttl(Duration.ZERO) }
+    }
+
+    @Test
+    void hit() {
+        def cache = cache()
+        assertTrue cache.verifier(ALG, pub).apply(MESSAGE).test(signature)
+        assertTrue cache.verifier(ALG, pub).apply(MESSAGE).test(signature)
+        def verifier = cache.verifier(ALG, pub)
+        assertTrue verifier.apply(ByteBuffer.wrap(MESSAGE)).test(signature)
+        assertTrue verifier.apply(MESSAGE, 0, 6).apply(MESSAGE, 6, MESSAGE.length - 6).test(signature)
+        assertEquals 3, cache.metrics().hits()
+        assertEquals 1, cache.metrics().misses()
+        assertEquals 1, cache.metrics().size()
+        assertEquals 0.75d, cache.metrics().hitRate(), 0.0001d
+    }
+
+    @Test
+    void invalidSignaturesNotCached() {
+        def cache = cache()
+        byte[] invalid = signature.clone()
+        invalid[0] ^= 1
+        assertFalse cache.verifier(ALG, pub).apply(MESSAGE).test(invalid)
+        assertFalse cache.verifier(ALG, pub).apply(MESSAGE).test(invalid)
+        assertEquals 0, cache.metrics().hits()
+        assertEquals 0, cache.metrics().size()
+
+        cache.verifier(ALG, pub).apply(MESSAGE).test(signature)
+        // different message with the cached signature must not hit:
+        assertFalse cache.verifier(ALG, pub).apply('other'.getBytes(StandardCharsets.UTF_8)).test(signature)
+        assertEquals 0, cache.metrics().hits()
+    }
+
+    @Test
+    void differentAlgorithmNotShared() {
+        def cache = cache()
+        assertTrue cache.verifier(ALG, pub).apply(MESSAGE).test(signature)
+        try {
+            assertFalse cache.verifier(RsaSignatureAlgorithm.RS384, pub).apply(MESSAGE).test(signature)
+        } catch (MessageException ignored) { // the JCA provider may reject the mismatched DigestInfo outright
+        }
+        assertEquals 0, cache.metrics().hits()
+    }
+
+    @Test
+    void largeMessage() {
+        byte[] message = new byte[CachingVerifier.MAX_BUFFER_SIZE * 3 + 1]
+        byte[] sig = ALG.with(priv).apply(message).get().octets()
+        def cache = cache()
+        def verifier = cache.verifier(ALG, pub)
+        assertTrue verifier.apply(message).test(sig)
+        assertTrue verifier.apply(message).test(sig)
+        assertTrue verifier.apply(MESSAGE).test(signature) // reusable after streaming
+        assertEquals 1, cache.metrics().hits()
+    }
+
+    @Test
+    void reset() {
+        def cache = cache()
+        def verifier = cache.verifier(ALG, pub)
+        assertTrue verifier.apply('garbage'.getBytes(StandardCharsets.UTF_8)).reset().apply(MESSAGE).test(signature)
+    }
+
+    @Test
+    void ttl() {
+        def cache = VerificationCache.builder().ttl(Duration.ofMillis(50)).build()
+        assertTrue cache.verifier(ALG, pub).apply(MESSAGE).test(signature)
+        Thread.sleep(100)
+        assertTrue cache.verifier(ALG, pub).apply(MESSAGE).test(signature)
+        assertEquals 0, cache.metrics().hits()
+        assertEquals 1, cache.metrics().evictions()
+    }
+
+    @Test
+    void maximumSize() {
+        def cache = VerificationCache.builder().maximumSize(1).build()
+        byte[] message2 = 'second'.getBytes(StandardCharsets.UTF_8)
+        byte[] signature2 = ALG.with(priv).apply(message2).get().octets()
+        assertTrue cache.verifier(ALG, pub).apply(MESSAGE).test(signature)
+        assertTrue cache.verifier(ALG, pub).apply(message2).test(signature2)
+        assertEquals 1, cache.metrics().size()
+        assertEquals 1, cache.metrics().evictions()
+    }
+
+    @Test
+    void invalidate() {
+        def cache = cache()
+        assertTrue cache.verifier(ALG, pub).apply(MESSAGE).test(signature)
+        cache.invalidate(pub)
+        assertEquals 0, cache.metrics().size()
+        assertTrue cache.verifier(ALG, pub).apply(MESSAGE).test(signature)
+        cache.clear()
+        assertEquals 0, cache.metrics().size()
+        assertEquals 0, cache.metrics().hits()
+    }
+
+    @Test
+    void invalidateEquivalentKey() {
+        def cache = cache()
+        assertTrue cache.verifier(ALG, pub).apply(MESSAGE).test(signature)
+        def spec = new X509EncodedKeySpec(pub.toJcaKey().getEncoded())
+        def copy = new DefaultRsaPublicKey(KeyFactory.getInstance('RSA').generatePublic(spec) as RSAPublicKey)
+        cache.invalidate(copy) // a different instance with the same encoding
+        assertEquals 0, cache.metrics().size()
+    }
+
+    @Test
+    void destroyedKey() {
+        def key = ALG.keygen().get() as RsaPrivateKey
+        def publicKey = key.publicKey()
+        byte[] sig = ALG.with(key).apply(MESSAGE).get().octets()
+        def cache = cache()
+        assertTrue cache.verifier(ALG, publicKey).apply(MESSAGE).test(sig)
+        assertEquals 1, cache.metrics().size()
+        def verifier = cache.verifier(ALG, publicKey)
+        publicKey.destroy()
+        try {
+            verifier.apply(MESSAGE).test(sig)
+        } catch (Exception ignored) { // the JCA provider may refuse destroyed keys
+        }
+        assertEquals 0, cache.metrics().hits()
+    }
+
+    @Test
+    void invalidArgs() {
+        def cache = cache()
+        assertThrows NullPointerException, { cache.verifier(null, pub) }
+        assertThrows NullPointerException, { cache.verifier(ALG, null) }
+        assertThrows NullPointerException, { cache.verifier(ALG, pub).apply(MESSAGE).test(null) }
+    }
+}
@@ -39,7 +39,7 @@ public final class Bytes {
     public static byte[] random(int numBytes) {
         Assert.gt(numBytes, 0, "numBytes argument must be positive (greater than zero)");
         byte[] bytes = new byte[numBytes];
-        Randoms.secureRandom().nextBytes(bytes);
+        Randoms.nextBytes(bytes, 0, numBytes);
         return bytes;
     }
 
@@ -154,6 +154,32 @@ public final class Bytes {
         return startsWith(src, suffix, length(src) - length(suffix));
     }
 
+    /**
+     * Returns {@code true} if {@code len} bytes in {@code a} starting at {@code aOffset} are equal to {@code len}
+     * bytes in {@code b} starting at {@code bOffset}, {@code false} otherwise.  The comparison time depends only
+     * on {@code len} and never on the array contents, so it is safe to use for comparing digests and MACs.
+     * Returns {@code false} if either array is {@code null} or does not contain the specified range.
+     *
+     * @param a       the first array
+     * @param aOffset the index in {@code a} of the first byte to compare
+     * @param b       the second array
+     * @param bOffset the index in {@code b} of the first byte to compare
+     * @param len     the number of bytes to compare
+     * @return {@code true} if the specified ranges are equal, {@code false} otherwise.
+     */
+    public static boolean isEqual(byte[] a, int aOffset, byte[] b, int bOffset, int len) {
+        if (a == null || b == null || len < 0 ||
+                aOffset < 0 || aOffset > a.length - len ||
+                bOffset < 0 || bOffset > b.length - len) {
+            return false;
+        }
+        int result = 0;
+        for (int i = 0; i < len; i++) {
+            result |= a[aOffset + i] ^ b[bOffset + i];
+        }
+        return result == 0;
+    }
+
     public static byte[] concat(byte[]... arrays) {
         int len = 0;
         int numArrays = Arrays.length(arrays);
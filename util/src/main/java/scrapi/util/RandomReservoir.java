@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.util;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A buffer of random bytes, refilled in bulk from a {@link SecureRandom}, that serves small requests (salts,
+ * nonces, keys) without a {@code SecureRandom} call (and its lock acquisition and reseed check) per request.
+ * Every byte is handed out at most once: bytes are zeroed as soon as they are consumed, and any bytes remaining
+ * when the buffer is refilled are overwritten.
+ *
+ * <p>Instances are not thread-safe and are expected to be confined to a single thread.</p>
+ */
+final class RandomReservoir {
+
+    static final int DEFAULT_CAPACITY = 4096;
+
+    /**
+     * Requests for whole arrays at least this large bypass the buffer and are filled directly by the
+     * {@code SecureRandom}, since buffering would only add a copy.
+     */
+    private final int directThreshold;
+
+    private final Supplier<SecureRandom> random;
+    private final byte[] buf;
+    private int position; // of the next unconsumed byte, buf.length when empty
+
+    RandomReservoir(Supplier<SecureRandom> random) {
+        this(random, DEFAULT_CAPACITY);
+    }
+
+    RandomReservoir(Supplier<SecureRandom> random, int capacity) {
+        this.random = Assert.notNull(random, "SecureRandom supplier cannot be null.");
+        this.buf = new byte[Assert.gt(capacity, 0, "capacity must be > 0")];
+        this.directThreshold = Math.max(1, capacity / 4);
+        this.position = capacity; // empty, filled on first use
+    }
+
+    void nextBytes(byte[] dst, int off, int len) {
+        Objects.checkFromIndexSize(off, len, Assert.notNull(dst, "destination byte array cannot be null.").length);
+        if (off == 0 && len == dst.length && len >= this.directThreshold) {
+            this.random.get().nextBytes(dst);
+            return;
+        }
+        while (len > 0) {
+            if (this.position == this.buf.length) {
+                this.random.get().nextBytes(this.buf);
+                this.position = 0;
+            }
+            int n = Math.min(len, this.buf.length - this.position);
+            System.arraycopy(this.buf, this.position, dst, off, n);
+            Arrays.fill(this.buf, this.position, this.position + n, (byte) 0); // never retain handed-out bytes
+            this.position += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    int remaining() {
+        return this.buf.length - this.position;
+    }
+}
@@ -15,37 +15,94 @@
  */
 package scrapi.util;
 
+import java.nio.charset.StandardCharsets;
+import java.security.DrbgParameters;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 public final class Randoms {
 
-    private static final SecureRandom DEFAULT_SECURE_RANDOM;
+    private static final String DRBG_ALG_NAME = "DRBG";
+    private static final int DRBG_STRENGTH = 256;
+    private static final int MAX_STRIPES = 64;
 
-    static {
-        DEFAULT_SECURE_RANDOM = new SecureRandom();
-        DEFAULT_SECURE_RANDOM.nextBytes(new byte[64]);
-    }
+    // Stripes are created (and seeded) lazily on first use rather than during class initialization, so seed
+    // state is never captured in an ahead-of-time (e.g. native-image or AOT cache) snapshot of the heap:
+    private static final AtomicReferenceArray<SecureRandom> STRIPES =
+            new AtomicReferenceArray<>(stripeCount(Runtime.getRuntime().availableProcessors()));
+    private static final AtomicInteger NEXT_STRIPE = new AtomicInteger();
+    // Threads are assigned stripes round-robin, so up to STRIPES.length() threads never share an instance:
+    private static final ThreadLocal<Integer> STRIPE =
+            ThreadLocal.withInitial(() -> NEXT_STRIPE.getAndIncrement() & (STRIPES.length() - 1));
+    private static final ThreadLocal<RandomReservoir> RESERVOIR =
+            ThreadLocal.withInitial(() -> new RandomReservoir(Randoms::secureRandom));
 
     private Randoms() {
     }
 
+    static int stripeCount(int processors) {
+        int count = Integer.highestOneBit(Math.max(1, Math.min(processors, MAX_STRIPES)));
+        return count < processors && count < MAX_STRIPES ? count << 1 : count; // next power of two
+    }
+
+    private static SecureRandom newSecureRandom(int stripe) {
+        SecureRandom random;
+        // Each DRBG instance is independently seeded from the JVM entropy source; the personalization string
+        // additionally ensures that instances never share an internal state, even if given identical seeds:
+        byte[] personalization = ("scrapi/" + stripe + '/' + System.nanoTime()).getBytes(StandardCharsets.UTF_8);
+        try {
+            random = SecureRandom.getInstance(DRBG_ALG_NAME, DrbgParameters.instantiation(DRBG_STRENGTH,
+                    DrbgParameters.Capability.RESEED_ONLY, personalization));
+        } catch (NoSuchAlgorithmException e) { // no provider supports DRBG (or that strength), use JVM default:
+            random = new SecureRandom();
+        }
+        random.nextBytes(new byte[64]); // force the RNG to initialize (seed) itself
+        return random;
+    }
+
     /**
-     * Returns a default SecureRandom number generator - a static singleton which may be cached if desired.
-     * The RNG is initialized using the JVM default as follows:
+     * Returns a thread-safe SecureRandom number generator which may be cached if desired.
      *
-     * <pre><code>
-     * static {
-     *     DEFAULT_SECURE_RANDOM = new SecureRandom();
-     *     DEFAULT_SECURE_RANDOM.nextBytes(new byte[64]);
-     * }
-     * </code></pre>
+     * <p>A single shared SecureRandom is a point of contention when many threads need random bytes concurrently,
+     * so this method returns one of a small number of independently seeded instances (at most one per available
+     * processor, up to 64), assigned to threads round-robin.  Each is a 256-bit strength {@code DRBG}
+     * {@link SecureRandom} if supported by the JVM, or the JVM default {@link SecureRandom#SecureRandom()
+     * SecureRandom} otherwise, and is created and seeded on first use.</p>
      *
-     * <p><code>nextBytes</code> is called to force the RNG to initialize itself if not already initialized.  The
-     * byte array is not used and discarded immediately for garbage collection.</p>
+     * <p>Any returned instance may be used safely by any thread; callers that cache the result only forgo the
+     * reduced contention of calling this method from each thread.</p>
      *
-     * @return a default SecureRandom number generator.
+     * @return a thread-safe SecureRandom number generator.
      */
     public static SecureRandom secureRandom() {
-        return DEFAULT_SECURE_RANDOM;
+        int i = STRIPE.get();
+        SecureRandom random = STRIPES.get(i);
+        if (random == null) {
+            random = newSecureRandom(i);
+            if (!STRIPES.compareAndSet(i, null, random)) { // another thread won the race, use its instance:
+                random = STRIPES.get(i);
+            }
+        }
+        return random;
+    }
+
+    /**
+     * Fills {@code len} bytes of {@code dst}, starting at {@code offset}, with random bytes from the
+     * {@link #secureRandom() default SecureRandom}, without allocating.
+     *
+     * <p>Small requests, such as salts and nonces, are served from a per-thread buffer that is refilled in bulk,
+     * so most calls don't need to invoke (and synchronize on) the {@code SecureRandom} at all.  Buffered bytes
+     * are zeroed as soon as they are consumed and are never returned to more than one caller.  Requests for
+     * larger whole arrays are filled directly by the {@code SecureRandom}.</p>
+     *
+     * @param dst    the byte array to fill
+     * @param offset the start index in {@code dst}
+     * @param len    the number of random bytes to write
+     * @throws IndexOutOfBoundsException if {@code offset} and {@code len} are not a valid range of {@code dst}
+     */
+    public static void nextBytes(byte[] dst, int offset, int len) throws IndexOutOfBoundsException {
+        RESERVOIR.get().nextBytes(dst, offset, len);
     }
-}
\ No newline at end of file
+}
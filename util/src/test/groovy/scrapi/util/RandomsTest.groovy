@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2026 Les Hazlewood
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package scrapi.util
+
+import org.junit.jupiter.api.Test
+
+import java.security.SecureRandom
+import java.util.concurrent.ConcurrentHashMap
+
+import static org.junit.jupiter.api.Assertions.*
+
+class RandomsTest {
+
+    @Test
+    void stripeCount() {
+        assertEquals 1, Randoms.stripeCount(0)
+        assertEquals 1, Randoms.stripeCount(1)
+        assertEquals 2, Randoms.stripeCount(2)
+        assertEquals 4, Randoms.stripeCount(3)
+        assertEquals 8, Randoms.stripeCount(5)
+        assertEquals 64, Randoms.stripeCount(64)
+        assertEquals 64, Randoms.stripeCount(1000)
+    }
+
+    @Test
+    void sameInstancePerThread() {
+        SecureRandom random = Randoms.secureRandom()
+        assertNotNull random
+        assertSame random, Randoms.secureRandom()
+    }
+
+    @Test
+    void concurrentThreads() {
+        Set<SecureRandom> randoms = ConcurrentHashMap.newKeySet()
+        def threads = (1..8).collect { Thread.start { randoms.add(Randoms.secureRandom()) } }
+        threads*.join()
+        assertEquals Math.min(8, Randoms.stripeCount(Runtime.getRuntime().availableProcessors())), randoms.size()
+    }
+
+    @Test
+    void nextBytesRange() {
+        byte[] dst = new byte[64]
+        Randoms.nextBytes(dst, 8, 16)
+        assertArrayEquals new byte[8], java.util.Arrays.copyOfRange(dst, 0, 8)
+        assertArrayEquals new byte[40], java.util.Arrays.copyOfRange(dst, 24, 64)
+        assertFalse java.util.Arrays.equals(new byte[16], java.util.Arrays.copyOfRange(dst, 8, 24))
+    }
+
+    @Test
+    void nextBytesInvalidRange() {
+        assertThrows IndexOutOfBoundsException, { Randoms.nextBytes(new byte[16], 8, 16) }
+        assertThrows IndexOutOfBoundsException, { Randoms.nextBytes(new byte[16], -1, 4) }
+    }
+
+    @Test
+    void reservoirZeroizesConsumedBytes() {
+        def reservoir = new RandomReservoir(Randoms::secureRandom, 64)
+        byte[] first = new byte[10]
+        reservoir.nextBytes(first, 0, 10)
+        assertEquals 54, reservoir.remaining()
+        assertArrayEquals new byte[10], java.util.Arrays.copyOfRange(reservoir.@buf, 0, 10)
+    }
+
+    @Test
+    void reservoirSpansRefills() {
+        def reservoir = new RandomReservoir(Randoms::secureRandom, 64)
+        byte[] dst = new byte[150]
+        reservoir.nextBytes(dst, 1, 149) // not a whole array, so buffered across three refills
+        assertEquals 43, reservoir.remaining()
+        assertEquals 0, dst[0]
+    }
+
+    @Test
+    void reservoirDirectForLargeArrays() {
+        def reservoir = new RandomReservoir(Randoms::secureRandom, 64)
+        reservoir.nextBytes(new byte[16], 0, 16)
+        assertEquals 0, reservoir.remaining() // never filled
+    }
+}